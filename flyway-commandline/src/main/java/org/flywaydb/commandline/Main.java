@@ -291,8 +291,17 @@ public class Main {
         LOG.info("repeatableSqlMigrationPrefix : File name prefix for repeatable SQL migrations");
         LOG.info("sqlMigrationSeparator        : File name separator for SQL migrations");
         LOG.info("sqlMigrationSuffixes         : Comma-separated list of file name suffixes for SQL migrations");
-        LOG.info("stream                       : [" + "pro] Stream SQL migrations when executing them");
-        LOG.info("batch                        : [" + "pro] Batch SQL statements when executing them");
+        LOG.info("stream                       : Stream SQL migrations when executing them");
+        LOG.info("batch                        : Batch SQL statements when executing them");
+        LOG.info("batchSize                    : Max number of statements per batch");
+        LOG.info("resourceCacheFile            : File in which to cache checksums and parsing results between runs");
+        LOG.info("resolveThreads               : Number of threads to use for resolving SQL migrations");
+        LOG.info("lazyResolve                  : Resolve versioned SQL migrations only when needed");
+        LOG.info("lockWaitTimeout              : Max seconds to wait for the schema history lock");
+        LOG.info("cleanThreads                 : Number of threads to use for cleaning schemas");
+        LOG.info("repeatableThreads            : Threads for independent repeatable migrations");
+        LOG.info("laneThreads                  : Threads for versioned migrations in lanes");
+        LOG.info("heartbeatInterval            : Seconds between progress reports");
         LOG.info("mixed                        : Allow mixing transactional and non-transactional statements");
         LOG.info("encoding                     : Encoding of SQL migrations");
         LOG.info("placeholderReplacement       : Whether placeholders should be replaced");
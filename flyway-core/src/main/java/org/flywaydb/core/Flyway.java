@@ -17,44 +17,21 @@ package org.flywaydb.core;
 
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationInfoService;
-import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.configuration.ClassicConfiguration;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.configuration.FluentConfiguration;
-import org.flywaydb.core.api.logging.Log;
-import org.flywaydb.core.api.logging.LogFactory;
-import org.flywaydb.core.api.migration.JavaMigration;
 import org.flywaydb.core.api.resolver.MigrationResolver;
 import org.flywaydb.core.internal.callback.*;
-import org.flywaydb.core.internal.clazz.ClassProvider;
-import org.flywaydb.core.internal.clazz.NoopClassProvider;
 import org.flywaydb.core.internal.command.*;
 import org.flywaydb.core.internal.configuration.ConfigurationValidator;
-import org.flywaydb.core.internal.database.DatabaseFactory;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Schema;
-import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
-import org.flywaydb.core.internal.license.VersionPrinter;
-import org.flywaydb.core.internal.parser.ParsingContext;
-import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
-import org.flywaydb.core.internal.resource.NoopResourceProvider;
-import org.flywaydb.core.internal.resource.ResourceProvider;
-import org.flywaydb.core.internal.resource.StringResource;
 import org.flywaydb.core.internal.resource.ResourceNameValidator;
 import org.flywaydb.core.internal.scanner.ResourceNameCache;
-import org.flywaydb.core.internal.scanner.Scanner;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
-import org.flywaydb.core.internal.schemahistory.SchemaHistoryFactory;
-import org.flywaydb.core.internal.sqlscript.SqlScript;
-import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
-import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
-import org.flywaydb.core.internal.util.IOUtils;
-import org.flywaydb.core.internal.util.Pair;
 import org.flywaydb.core.internal.util.StringUtils;
 
-import java.sql.Connection;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -71,24 +48,22 @@ import java.util.List;
  * <p>
  */
 public class Flyway {
-    private static final Log LOG = LogFactory.getLog(Flyway.class);
-
     private final ClassicConfiguration configuration;
 
     /**
      * Whether the database connection info has already been printed in the logs.
      */
-    private boolean dbConnectionInfoPrinted;
+    boolean dbConnectionInfoPrinted;
 
     /**
      * Designed so we can fail fast if the configuration is invalid
      */
-    private ConfigurationValidator  configurationValidator = new ConfigurationValidator();
+    final ConfigurationValidator configurationValidator = new ConfigurationValidator();
 
     /**
      * Designed so we can fail fast if the SQL file resources are invalid
      */
-    private ResourceNameValidator resourceNameValidator = new ResourceNameValidator();
+    final ResourceNameValidator resourceNameValidator = new ResourceNameValidator();
 
     /**
      * This is your starting point. This creates a configuration which can be customized to your needs before being
@@ -139,7 +114,7 @@ public class Flyway {
     /**
      * Used to cache resource names for classpath scanning between commands
      */
-    private ResourceNameCache resourceNameCache = new ResourceNameCache();
+    final ResourceNameCache resourceNameCache = new ResourceNameCache();
 
     /**
      * <p>Starts the database migration. All pending migrations will be applied in order.
@@ -150,7 +125,14 @@ public class Flyway {
      * @throws FlywayException when the migration failed.
      */
     public int migrate() throws FlywayException {
-        return execute(new Command<Integer>() {
+        return execute(migrateCommand(), true);
+    }
+
+    /**
+     * @return The command that migrates the database.
+     */
+    Command<Integer> migrateCommand() {
+        return new Command<Integer>() {
             public Integer execute(MigrationResolver migrationResolver,
                                    SchemaHistory schemaHistory, Database database, Schema[] schemas, CallbackExecutor callbackExecutor
 
@@ -192,7 +174,7 @@ public class Flyway {
                 return new DbMigrate(database, schemaHistory, schemas[0], migrationResolver, configuration,
                         callbackExecutor).migrate();
             }
-        }, true);
+        };
     }
 
     private void doBaseline(SchemaHistory schemaHistory, CallbackExecutor callbackExecutor) {
@@ -242,7 +224,14 @@ public class Flyway {
      * @throws FlywayException when the validation failed.
      */
     public void validate() throws FlywayException {
-        execute(new Command<Void>() {
+        execute(validateCommand(), true);
+    }
+
+    /**
+     * @return The command that validates the applied migrations.
+     */
+    Command<Void> validateCommand() {
+        return new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver, SchemaHistory schemaHistory, Database database,
                                 Schema[] schemas, CallbackExecutor callbackExecutor
 
@@ -253,7 +242,7 @@ public class Flyway {
                         configuration.isIgnorePendingMigrations());
                 return null;
             }
-        }, true);
+        };
     }
 
     /**
@@ -282,7 +271,8 @@ public class Flyway {
     }
 
     private void doClean(Database database, SchemaHistory schemaHistory, Schema[] schemas, CallbackExecutor callbackExecutor) {
-        new DbClean(database, schemaHistory, schemas, callbackExecutor, configuration.isCleanDisabled()).clean();
+        new DbClean(database, schemaHistory, schemas, callbackExecutor, configuration.isCleanDisabled(),
+                configuration.getCleanThreads()).clean();
     }
 
     /**
@@ -293,7 +283,14 @@ public class Flyway {
      * @throws FlywayException when the clean fails.
      */
     public void clean() {
-        execute(new Command<Void>() {
+        execute(cleanCommand(), false);
+    }
+
+    /**
+     * @return The command that cleans the configured schemas.
+     */
+    Command<Void> cleanCommand() {
+        return new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver, SchemaHistory schemaHistory, Database database,
                                 Schema[] schemas, CallbackExecutor callbackExecutor
 
@@ -303,7 +300,7 @@ public class Flyway {
                 doClean(database, schemaHistory, schemas, callbackExecutor);
                 return null;
             }
-        }, false);
+        };
     }
 
     /**
@@ -315,7 +312,14 @@ public class Flyway {
      * @throws FlywayException when the info retrieval failed.
      */
     public MigrationInfoService info() {
-        return execute(new Command<MigrationInfoService>() {
+        return execute(infoCommand(), true);
+    }
+
+    /**
+     * @return The command that retrieves the information about all migrations.
+     */
+    Command<MigrationInfoService> infoCommand() {
+        return new Command<MigrationInfoService>() {
             public MigrationInfoService execute(MigrationResolver migrationResolver, SchemaHistory schemaHistory,
                                                 final Database database, final Schema[] schemas, CallbackExecutor callbackExecutor
 
@@ -324,7 +328,7 @@ public class Flyway {
             ) {
                 return new DbInfo(migrationResolver, schemaHistory, configuration, callbackExecutor).info();
             }
-        }, true);
+        };
     }
 
     /**
@@ -335,7 +339,14 @@ public class Flyway {
      * @throws FlywayException when the schema baselining failed.
      */
     public void baseline() throws FlywayException {
-        execute(new Command<Void>() {
+        execute(baselineCommand(), false);
+    }
+
+    /**
+     * @return The command that baselines the database.
+     */
+    Command<Void> baselineCommand() {
+        return new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver,
                                 SchemaHistory schemaHistory, Database database, Schema[] schemas, CallbackExecutor callbackExecutor
 
@@ -346,7 +357,7 @@ public class Flyway {
                 doBaseline(schemaHistory, callbackExecutor);
                 return null;
             }
-        }, false);
+        };
     }
 
     /**
@@ -360,7 +371,14 @@ public class Flyway {
      * @throws FlywayException when the schema history table repair failed.
      */
     public void repair() throws FlywayException {
-        execute(new Command<Void>() {
+        execute(repairCommand(), true);
+    }
+
+    /**
+     * @return The command that repairs the schema history table.
+     */
+    Command<Void> repairCommand() {
+        return new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver,
                                 SchemaHistory schemaHistory, Database database, Schema[] schemas, CallbackExecutor callbackExecutor
 
@@ -370,23 +388,25 @@ public class Flyway {
                 new DbRepair(database, migrationResolver, schemaHistory, callbackExecutor, configuration).repair();
                 return null;
             }
-        }, true);
+        };
     }
 
     /**
-     * Creates the MigrationResolver.
+     * <p>Opens a session in which several commands can be run in a row against the same database. All commands of the
+     * session share a single scan of the locations, the resolved migrations and the database connections. The session
+     * is bound to the configuration of this Flyway instance.</p>
+     * <pre>
+     * try (FlywaySession session = flyway.openSession()) {
+     *     session.validate();
+     *     session.migrate();
+     * }
+     * </pre>
      *
-     * @param resourceProvider The resource provider.
-     * @param classProvider    The class provider.
-     * @param sqlScriptFactory The SQL statement builder factory.
-     * @return A new, fully configured, MigrationResolver instance.
+     * @return The new session. It must be closed once it is no longer needed.
+     * @throws FlywayException when the session could not be opened.
      */
-    private MigrationResolver createMigrationResolver(ResourceProvider resourceProvider,
-                                                      ClassProvider<JavaMigration> classProvider,
-                                                      SqlScriptExecutorFactory sqlScriptExecutorFactory,
-                                                      SqlScriptFactory sqlScriptFactory) {
-        return new CompositeMigrationResolver(resourceProvider, classProvider, configuration,
-                sqlScriptExecutorFactory, sqlScriptFactory, configuration.getResolvers());
+    public FlywaySession openSession() throws FlywayException {
+        return new FlywaySession(this, configuration, true);
     }
 
     /**
@@ -397,266 +417,12 @@ public class Flyway {
      * @return The result of the command.
      */
     /*private -> testing*/ <T> T execute(Command<T> command, boolean scannerRequired) {
-        T result;
-
-        VersionPrinter.printVersion(
-
-
-
-        );
-
-        configurationValidator.validate(configuration);
-
-
-
-
-
-
-
-
-
-
-
-
-        final ResourceProvider resourceProvider;
-        ClassProvider<JavaMigration> classProvider;
-        if (!scannerRequired && configuration.isSkipDefaultResolvers() && configuration.isSkipDefaultCallbacks()) {
-            resourceProvider = NoopResourceProvider.INSTANCE;
-            //noinspection unchecked
-            classProvider = NoopClassProvider.INSTANCE;
-        } else {
-            Scanner<JavaMigration> scanner = new Scanner<>(
-                    JavaMigration.class,
-                    Arrays.asList(configuration.getLocations()),
-                    configuration.getClassLoader(),
-                    configuration.getEncoding()
-
-
-
-                    , resourceNameCache
-            );
-            resourceProvider = scanner;
-            classProvider = scanner;
-        }
-
-        if (configuration.isValidateMigrationNaming()) {
-            resourceNameValidator.validateSQLMigrationNaming(resourceProvider, configuration);
-        }
-
-        JdbcConnectionFactory jdbcConnectionFactory = new JdbcConnectionFactory(configuration.getDataSource(),
-                configuration.getConnectRetries()
-
-
-
-
-        );
-
-        final ParsingContext parsingContext = new ParsingContext();
-        final SqlScriptFactory sqlScriptFactory =
-                DatabaseFactory.createSqlScriptFactory(jdbcConnectionFactory, configuration, parsingContext);
-
-        final SqlScriptExecutorFactory noCallbackSqlScriptExecutorFactory = DatabaseFactory.createSqlScriptExecutorFactory(
-                jdbcConnectionFactory
-
-
-
-
-        );
-
-        jdbcConnectionFactory.setConnectionInitializer(new JdbcConnectionFactory.ConnectionInitializer() {
-            @Override
-            public void initialize(JdbcConnectionFactory jdbcConnectionFactory, Connection connection) {
-                if (configuration.getInitSql() == null) {
-                    return;
-                }
-                StringResource resource = new StringResource(configuration.getInitSql());
-
-                SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, true, resourceProvider);
-                noCallbackSqlScriptExecutorFactory.createSqlScriptExecutor(connection
-
-
-
-                ).execute(sqlScript);
-            }
-        });
-
-        Database database = null;
+        FlywaySession session = new FlywaySession(this, configuration, scannerRequired);
         try {
-            database = DatabaseFactory.createDatabase(configuration, !dbConnectionInfoPrinted, jdbcConnectionFactory
-
-
-
-            );
-
-            dbConnectionInfoPrinted = true;
-            LOG.debug("DDL Transactions Supported: " + database.supportsDdlTransactions());
-
-            Pair<Schema, List<Schema>> schemas = prepareSchemas(database);
-            Schema defaultSchema = schemas.getLeft();
-
-
-
-
-
-
-
-            parsingContext.populate(database);
-
-            database.ensureSupported();
-
-            DefaultCallbackExecutor callbackExecutor = new DefaultCallbackExecutor(configuration, database, defaultSchema,
-                    prepareCallbacks(database, resourceProvider, jdbcConnectionFactory, sqlScriptFactory
-
-
-
-                    ));
-
-            SqlScriptExecutorFactory sqlScriptExecutorFactory = DatabaseFactory.createSqlScriptExecutorFactory(jdbcConnectionFactory
-
-
-
-
-            );
-
-            result = command.execute(
-                    createMigrationResolver(resourceProvider, classProvider, sqlScriptExecutorFactory, sqlScriptFactory),
-                    SchemaHistoryFactory.getSchemaHistory(configuration, noCallbackSqlScriptExecutorFactory, sqlScriptFactory,
-                            database, defaultSchema
-
-
-
-                    ),
-                    database,
-                    schemas.getRight().toArray(new Schema[0]),
-                    callbackExecutor
-
-
-
-            );
+            return session.execute(command);
         } finally {
-            IOUtils.close(database);
-
-
-
-            showMemoryUsage();
-        }
-        return result;
-    }
-
-    private void showMemoryUsage() {
-        Runtime runtime = Runtime.getRuntime();
-        long free = runtime.freeMemory();
-        long total = runtime.totalMemory();
-        long used = total - free;
-
-        long totalMB = total / (1024 * 1024);
-        long usedMB = used / (1024 * 1024);
-        LOG.debug("Memory usage: " + usedMB + " of " + totalMB + "M");
-    }
-
-    private Pair<Schema, List<Schema>> prepareSchemas(Database database) {
-        String defaultSchemaName = configuration.getDefaultSchema();
-        String[] schemaNames = configuration.getSchemas();
-
-        if (!isDefaultSchemaValid(defaultSchemaName, schemaNames)) {
-            throw new FlywayException("The defaultSchema property is specified but is not a member of the schemas property");
-        }
-
-        LOG.debug("Schemas: " + StringUtils.arrayToCommaDelimitedString(schemaNames));
-        LOG.debug("Default schema: " + defaultSchemaName);
-
-        List<Schema> schemas = new ArrayList<>();
-
-        if (schemaNames.length == 0) {
-            Schema currentSchema = database.getMainConnection().getCurrentSchema();
-            if (currentSchema == null) {
-                throw new FlywayException("Unable to determine schema for the schema history table." +
-                        " Set a default schema for the connection or specify one using the defaultSchema property!");
-            }
-            schemas.add(currentSchema);
-        } else {
-            for (String schemaName : schemaNames) {
-                    schemas.add(database.getMainConnection().getSchema(schemaName));
-            }
-        }
-
-        if (defaultSchemaName == null && schemaNames.length > 0) {
-            defaultSchemaName = schemaNames[0];
-        }
-
-        Schema defaultSchema = (defaultSchemaName != null)
-                ? database.getMainConnection().getSchema(defaultSchemaName)
-                : database.getMainConnection().getCurrentSchema();
-
-        return Pair.of(defaultSchema, schemas);
-    }
-
-    private boolean isDefaultSchemaValid(String defaultSchema, String[] schemas) {
-        // No default schema specified
-        if (defaultSchema == null) {
-            return true;
-        }
-        // Default schema is one of those Flyway is managing
-        for (String schema : schemas) {
-            if (defaultSchema.equals(schema)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private List<Callback> prepareCallbacks(Database database, ResourceProvider resourceProvider,
-                                            JdbcConnectionFactory jdbcConnectionFactory,
-                                            SqlScriptFactory sqlScriptFactory
-
-
-
-
-    ) {
-        List<Callback> effectiveCallbacks = new ArrayList<>();
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-        effectiveCallbacks.addAll(Arrays.asList(configuration.getCallbacks()));
-
-        if (!configuration.isSkipDefaultCallbacks()) {
-            SqlScriptExecutorFactory sqlScriptExecutorFactory =
-                    DatabaseFactory.createSqlScriptExecutorFactory(jdbcConnectionFactory
-
-
-
-
-                    );
-
-            effectiveCallbacks.addAll(
-                    new SqlScriptCallbackFactory(
-                            resourceProvider,
-                            sqlScriptExecutorFactory,
-                            sqlScriptFactory,
-                            configuration
-                    ).getCallbacks());
+            session.close();
         }
-
-
-
-
-
-        return effectiveCallbacks;
     }
 
     /**
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.flywaydb.core.api.resolver.MigrationResolver;
+import org.flywaydb.core.internal.callback.DefaultCallbackExecutor;
+import org.flywaydb.core.internal.callback.SqlScriptCallbackFactory;
+import org.flywaydb.core.internal.clazz.ClassProvider;
+import org.flywaydb.core.internal.clazz.NoopClassProvider;
+import org.flywaydb.core.internal.database.DatabaseFactory;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.Schema;
+import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
+import org.flywaydb.core.internal.license.VersionPrinter;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
+import org.flywaydb.core.internal.resource.NoopResourceProvider;
+import org.flywaydb.core.internal.resource.ResourceCache;
+import org.flywaydb.core.internal.resource.ResourceProvider;
+import org.flywaydb.core.internal.resource.StringResource;
+import org.flywaydb.core.internal.scanner.Scanner;
+import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.flywaydb.core.internal.schemahistory.SchemaHistoryFactory;
+import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
+import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
+import org.flywaydb.core.internal.util.IOUtils;
+import org.flywaydb.core.internal.util.Pair;
+import org.flywaydb.core.internal.util.StringUtils;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A session in which several Flyway commands can be run in a row. The commands of a session share a single scan of
+ * the locations, the resolved migrations along with their checksums, and the database connections, so each command
+ * after the first one only has to read the rows added to the schema history table in the meantime.
+ * <pre>
+ * try (FlywaySession session = flyway.openSession()) {
+ *     session.validate();
+ *     session.migrate();
+ *     session.info();
+ * }
+ * </pre>
+ * <p>A session is bound to the configuration of the Flyway instance it was opened from, which never changes. To run
+ * commands with a different configuration, load a new Flyway instance and open a session on that one. Changes made to
+ * the migrations or callbacks while the session is open are not picked up.</p>
+ * <p>Sessions are not thread-safe. They must be closed to release their database connections.</p>
+ */
+public class FlywaySession implements Closeable {
+    private static final Log LOG = LogFactory.getLog(FlywaySession.class);
+
+    private final Flyway flyway;
+    private final Configuration configuration;
+
+    private final ResourceProvider resourceProvider;
+    private final ClassProvider<JavaMigration> classProvider;
+    private final JdbcConnectionFactory jdbcConnectionFactory;
+    private final ParsingContext parsingContext = new ParsingContext();
+    private final ResourceCache resourceCache;
+    private final SqlScriptFactory sqlScriptFactory;
+    private final SqlScriptExecutorFactory noCallbackSqlScriptExecutorFactory;
+    private final SqlScriptExecutorFactory sqlScriptExecutorFactory;
+    private final MigrationResolver migrationResolver;
+
+    /**
+     * The database along with the state depending on its connections. Established on first use and discarded after a
+     * failed command, as its connections may be left in an unknown state.
+     */
+    private Database database;
+    private Schema[] schemas;
+    private DefaultCallbackExecutor callbackExecutor;
+    private SchemaHistory schemaHistory;
+
+    private boolean closed;
+
+    /**
+     * Creates a new session.
+     *
+     * @param flyway          The Flyway instance opening this session.
+     * @param configuration   The configuration of this Flyway instance.
+     * @param scannerRequired Whether the locations must be scanned even if neither the default resolvers nor the
+     *                        default callbacks are used.
+     */
+    FlywaySession(Flyway flyway, final Configuration configuration, boolean scannerRequired) {
+        this.flyway = flyway;
+        this.configuration = configuration;
+
+        VersionPrinter.printVersion(
+
+
+
+        );
+
+        flyway.configurationValidator.validate(configuration);
+
+
+
+
+
+
+
+
+
+
+
+
+        if (!scannerRequired && configuration.isSkipDefaultResolvers() && configuration.isSkipDefaultCallbacks()) {
+            resourceProvider = NoopResourceProvider.INSTANCE;
+            //noinspection unchecked
+            classProvider = NoopClassProvider.INSTANCE;
+        } else {
+            Scanner<JavaMigration> scanner = new Scanner<>(
+                    JavaMigration.class,
+                    Arrays.asList(configuration.getLocations()),
+                    configuration.getClassLoader(),
+                    configuration.getEncoding(),
+                    configuration.getSqlMigrationSuffixes(),
+                    configuration.getResolveThreads()
+
+
+
+                    , flyway.resourceNameCache
+            );
+            resourceProvider = scanner;
+            classProvider = scanner;
+        }
+
+        if (configuration.isValidateMigrationNaming()) {
+            flyway.resourceNameValidator.validateSQLMigrationNaming(resourceProvider, configuration);
+        }
+
+        jdbcConnectionFactory = new JdbcConnectionFactory(configuration.getDataSource(),
+                configuration.getConnectRetries()
+
+
+
+
+        );
+
+        resourceCache = ResourceCache.load(configuration);
+        sqlScriptFactory =
+                DatabaseFactory.createSqlScriptFactory(jdbcConnectionFactory, configuration, parsingContext, resourceCache);
+
+        noCallbackSqlScriptExecutorFactory = DatabaseFactory.createSqlScriptExecutorFactory(
+                jdbcConnectionFactory, configuration
+
+
+
+
+        );
+
+        jdbcConnectionFactory.setConnectionInitializer(new JdbcConnectionFactory.ConnectionInitializer() {
+            @Override
+            public void initialize(JdbcConnectionFactory jdbcConnectionFactory, Connection connection) {
+                if (configuration.getInitSql() == null) {
+                    return;
+                }
+                StringResource resource = new StringResource(configuration.getInitSql());
+
+                SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, true, resourceProvider);
+                noCallbackSqlScriptExecutorFactory.createSqlScriptExecutor(connection
+
+
+
+                ).execute(sqlScript);
+            }
+        });
+
+        sqlScriptExecutorFactory = DatabaseFactory.createSqlScriptExecutorFactory(jdbcConnectionFactory, configuration
+
+
+
+
+        );
+
+        migrationResolver = new CompositeMigrationResolver(resourceProvider, classProvider, configuration,
+                sqlScriptExecutorFactory, sqlScriptFactory, resourceCache, configuration.getResolvers());
+    }
+
+    /**
+     * Starts the database migration. All pending migrations will be applied in order.
+     *
+     * @return The number of successfully applied migrations.
+     * @throws FlywayException when the migration failed.
+     * @see Flyway#migrate()
+     */
+    public int migrate() throws FlywayException {
+        return execute(flyway.migrateCommand());
+    }
+
+    /**
+     * Validates applied migrations against resolved ones.
+     *
+     * @throws FlywayException when the validation failed.
+     * @see Flyway#validate()
+     */
+    public void validate() throws FlywayException {
+        execute(flyway.validateCommand());
+    }
+
+    /**
+     * Drops all objects in the configured schemas.
+     *
+     * @throws FlywayException when the clean fails.
+     * @see Flyway#clean()
+     */
+    public void clean() {
+        try {
+            execute(flyway.cleanCommand());
+        } finally {
+            // Schemas may have been dropped, invalidating what the connections know about them
+            disconnect();
+        }
+    }
+
+    /**
+     * Retrieves the complete information about all the migrations.
+     *
+     * @return All migrations sorted by version, oldest first.
+     * @throws FlywayException when the info retrieval failed.
+     * @see Flyway#info()
+     */
+    public MigrationInfoService info() {
+        return execute(flyway.infoCommand());
+    }
+
+    /**
+     * Baselines an existing database, excluding all migrations up to and including baselineVersion.
+     *
+     * @throws FlywayException when the schema baselining failed.
+     * @see Flyway#baseline()
+     */
+    public void baseline() throws FlywayException {
+        execute(flyway.baselineCommand());
+    }
+
+    /**
+     * Repairs the Flyway schema history table.
+     *
+     * @throws FlywayException when the schema history table repair failed.
+     * @see Flyway#repair()
+     */
+    public void repair() throws FlywayException {
+        execute(flyway.repairCommand());
+    }
+
+    /**
+     * Executes this command within this session.
+     *
+     * @param command The command to execute.
+     * @param <T>     The type of the result.
+     * @return The result of the command.
+     */
+    <T> T execute(Flyway.Command<T> command) {
+        if (closed) {
+            throw new FlywayException("Unable to execute command as this Flyway session has already been closed");
+        }
+
+        boolean success = false;
+        try {
+            if (database == null) {
+                connect();
+            }
+
+            T result = command.execute(migrationResolver, schemaHistory, database, schemas, callbackExecutor
+
+
+
+            );
+            success = true;
+            return result;
+        } finally {
+            if (!success) {
+                disconnect();
+            }
+            resourceCache.save();
+        }
+    }
+
+    private void connect() {
+        try {
+            database = DatabaseFactory.createDatabase(configuration, !flyway.dbConnectionInfoPrinted, jdbcConnectionFactory
+
+
+
+            );
+
+            flyway.dbConnectionInfoPrinted = true;
+            LOG.debug("DDL Transactions Supported: " + database.supportsDdlTransactions());
+
+            Pair<Schema, List<Schema>> schemas = prepareSchemas(database);
+            Schema defaultSchema = schemas.getLeft();
+
+
+
+
+
+
+
+            parsingContext.populate(database);
+
+            database.ensureSupported();
+
+            callbackExecutor = new DefaultCallbackExecutor(configuration, database, defaultSchema,
+                    prepareCallbacks(database, resourceProvider, jdbcConnectionFactory, sqlScriptFactory
+
+
+
+                    ));
+
+            schemaHistory = SchemaHistoryFactory.getSchemaHistory(configuration, noCallbackSqlScriptExecutorFactory, sqlScriptFactory,
+                    database, defaultSchema
+
+
+
+            );
+            this.schemas = schemas.getRight().toArray(new Schema[0]);
+        } catch (RuntimeException e) {
+            disconnect();
+            throw e;
+        }
+    }
+
+    private void disconnect() {
+        IOUtils.close(database);
+        database = null;
+        schemas = null;
+        callbackExecutor = null;
+        schemaHistory = null;
+    }
+
+    /**
+     * Closes this session, releasing its database connections.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            disconnect();
+        } finally {
+            resourceCache.save();
+
+
+
+            showMemoryUsage();
+        }
+    }
+
+    private void showMemoryUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        long free = runtime.freeMemory();
+        long total = runtime.totalMemory();
+        long used = total - free;
+
+        long totalMB = total / (1024 * 1024);
+        long usedMB = used / (1024 * 1024);
+        LOG.debug("Memory usage: " + usedMB + " of " + totalMB + "M");
+    }
+
+    private Pair<Schema, List<Schema>> prepareSchemas(Database database) {
+        String defaultSchemaName = configuration.getDefaultSchema();
+        String[] schemaNames = configuration.getSchemas();
+
+        if (!isDefaultSchemaValid(defaultSchemaName, schemaNames)) {
+            throw new FlywayException("The defaultSchema property is specified but is not a member of the schemas property");
+        }
+
+        LOG.debug("Schemas: " + StringUtils.arrayToCommaDelimitedString(schemaNames));
+        LOG.debug("Default schema: " + defaultSchemaName);
+
+        List<Schema> schemas = new ArrayList<>();
+
+        if (schemaNames.length == 0) {
+            Schema currentSchema = database.getMainConnection().getCurrentSchema();
+            if (currentSchema == null) {
+                throw new FlywayException("Unable to determine schema for the schema history table." +
+                        " Set a default schema for the connection or specify one using the defaultSchema property!");
+            }
+            schemas.add(currentSchema);
+        } else {
+            for (String schemaName : schemaNames) {
+                    schemas.add(database.getMainConnection().getSchema(schemaName));
+            }
+        }
+
+        if (defaultSchemaName == null && schemaNames.length > 0) {
+            defaultSchemaName = schemaNames[0];
+        }
+
+        Schema defaultSchema = (defaultSchemaName != null)
+                ? database.getMainConnection().getSchema(defaultSchemaName)
+                : database.getMainConnection().getCurrentSchema();
+
+        return Pair.of(defaultSchema, schemas);
+    }
+
+    private boolean isDefaultSchemaValid(String defaultSchema, String[] schemas) {
+        // No default schema specified
+        if (defaultSchema == null) {
+            return true;
+        }
+        // Default schema is one of those Flyway is managing
+        for (String schema : schemas) {
+            if (defaultSchema.equals(schema)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Callback> prepareCallbacks(Database database, ResourceProvider resourceProvider,
+                                            JdbcConnectionFactory jdbcConnectionFactory,
+                                            SqlScriptFactory sqlScriptFactory
+
+
+
+
+    ) {
+        List<Callback> effectiveCallbacks = new ArrayList<>();
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+        effectiveCallbacks.addAll(Arrays.asList(configuration.getCallbacks()));
+
+        if (!configuration.isSkipDefaultCallbacks()) {
+            SqlScriptExecutorFactory sqlScriptExecutorFactory =
+                    DatabaseFactory.createSqlScriptExecutorFactory(jdbcConnectionFactory, configuration
+
+
+
+
+                    );
+
+            effectiveCallbacks.addAll(
+                    new SqlScriptCallbackFactory(
+                            resourceProvider,
+                            sqlScriptExecutorFactory,
+                            sqlScriptFactory,
+                            configuration
+                    ).getCallbacks());
+        }
+
+
+
+
+
+        return effectiveCallbacks;
+    }
+}
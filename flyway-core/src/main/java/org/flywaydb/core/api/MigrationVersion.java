@@ -17,7 +17,10 @@ package org.flywaydb.core.api;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 /**
@@ -47,15 +50,44 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
     private static final Pattern SPLIT_REGEX = Pattern.compile("\\.(?=\\d)");
 
     /**
-     * The individual parts this version string is composed of. Ex. 1.2.3.4.0 -> [1, 2, 3, 4, 0]
+     * The maximum number of digits of a version part that is guaranteed to fit in a long.
      */
-    private final List<BigInteger> versionParts;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * The maximum number of versions kept in {@link #INTERNED}, so that it can't grow without bounds in long-running
+     * applications.
+     */
+    private static final int MAX_INTERNED = 65536;
+
+    /**
+     * The versions created so far by version string, as the same versions are created over and over again from the
+     * names of the resolved migrations and the rows of the schema history table.
+     */
+    private static final ConcurrentMap<String, MigrationVersion> INTERNED = new ConcurrentHashMap<>();
+
+    /**
+     * The individual parts this version string is composed of, without trailing zeros. Ex. 1.2.3.4.0 -> [1, 2, 3, 4]
+     * {@code null} if any of them doesn't fit in a long, in which case {@link #bigVersionParts} holds them instead.
+     */
+    private final long[] versionParts;
+
+    /**
+     * The individual parts this version string is composed of when they don't all fit in a long, {@code null}
+     * otherwise.
+     */
+    private final BigInteger[] bigVersionParts;
 
     /**
      * The printable text to represent the version.
      */
     private final String displayText;
 
+    /**
+     * The hash code, computed upfront as versions are frequently used as keys.
+     */
+    private final int hashCode;
+
     /**
      * Create a MigrationVersion from a version String.
      *
@@ -65,10 +97,17 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     @SuppressWarnings("ConstantConditions")
     public static MigrationVersion fromVersion(String version) {
+        if (version == null) return EMPTY;
+        MigrationVersion migrationVersion = INTERNED.get(version);
+        if (migrationVersion != null) return migrationVersion;
         if ("current".equalsIgnoreCase(version)) return CURRENT;
         if ("latest".equalsIgnoreCase(version) || LATEST.getVersion().equals(version)) return LATEST;
-        if (version == null) return EMPTY;
-        return new MigrationVersion(version);
+
+        migrationVersion = new MigrationVersion(version);
+        if (INTERNED.size() < MAX_INTERNED) {
+            INTERNED.putIfAbsent(version, migrationVersion);
+        }
+        return migrationVersion;
     }
 
     /**
@@ -79,8 +118,17 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     private MigrationVersion(String version) {
         String normalizedVersion = version.replace('_', '.');
-        this.versionParts = tokenize(normalizedVersion);
+        long[] parts = parse(normalizedVersion);
+        if (parts == null) {
+            List<BigInteger> bigParts = tokenize(normalizedVersion);
+            parts = toLongs(bigParts);
+            this.bigVersionParts = parts == null ? bigParts.toArray(new BigInteger[0]) : null;
+        } else {
+            this.bigVersionParts = null;
+        }
+        this.versionParts = parts;
         this.displayText = normalizedVersion;
+        this.hashCode = versionParts != null ? Arrays.hashCode(versionParts) : Arrays.hashCode(bigVersionParts);
     }
 
     /**
@@ -91,9 +139,10 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @param displayText The alternative text to display instead of the version number.
      */
     private MigrationVersion(BigInteger version, String displayText) {
-        this.versionParts = new ArrayList<>();
-        this.versionParts.add(version);
+        this.versionParts = version == null ? null : new long[]{version.longValue()};
+        this.bigVersionParts = version == null ? new BigInteger[]{null} : null;
         this.displayText = displayText;
+        this.hashCode = versionParts != null ? Arrays.hashCode(versionParts) : 0;
     }
 
     /**
@@ -108,8 +157,9 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return Numeric version as String
      */
     public String getVersion() {
-        if (this.equals(EMPTY)) return null;
-        if (this.equals(LATEST)) return Long.toString(Long.MAX_VALUE);
+        // No other version compares equal to these markers
+        if (this == EMPTY) return null;
+        if (this == LATEST) return Long.toString(Long.MAX_VALUE);
         return displayText;
     }
 
@@ -120,12 +170,12 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
 
         MigrationVersion version1 = (MigrationVersion) o;
 
-        return compareTo(version1) == 0;
+        return hashCode == version1.hashCode && compareTo(version1) == 0;
     }
 
     @Override
     public int hashCode() {
-        return versionParts == null ? 0 : versionParts.hashCode();
+        return hashCode;
     }
 
     /**
@@ -162,24 +212,21 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return The major version.
      */
     public BigInteger getMajor() {
-        return versionParts.get(0);
+        return getPart(0);
     }
 
     /**
      * @return The major version as a string.
      */
     public String getMajorAsString() {
-        return versionParts.get(0).toString();
+        return getPart(0).toString();
     }
 
     /**
      * @return The minor version as a string.
      */
     public String getMinorAsString() {
-        if (versionParts.size() == 1) {
-            return "0";
-        }
-        return versionParts.get(1).toString();
+        return getPart(1).toString();
     }
 
     @Override
@@ -213,11 +260,23 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if (o == LATEST) {
             return -1;
         }
-        final List<BigInteger> parts1 = versionParts;
-        final List<BigInteger> parts2 = o.versionParts;
-        int largestNumberOfParts = Math.max(parts1.size(), parts2.size());
+
+        if (versionParts != null && o.versionParts != null) {
+            final long[] parts1 = versionParts;
+            final long[] parts2 = o.versionParts;
+            int largestNumberOfParts = Math.max(parts1.length, parts2.length);
+            for (int i = 0; i < largestNumberOfParts; i++) {
+                final int compared = Long.compare(i < parts1.length ? parts1[i] : 0, i < parts2.length ? parts2[i] : 0);
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return 0;
+        }
+
+        int largestNumberOfParts = Math.max(getNumberOfParts(), o.getNumberOfParts());
         for (int i = 0; i < largestNumberOfParts; i++) {
-            final int compared = getOrZero(parts1, i).compareTo(getOrZero(parts2, i));
+            final int compared = getPart(i).compareTo(o.getPart(i));
             if (compared != 0) {
                 return compared;
             }
@@ -225,8 +284,78 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         return 0;
     }
 
-    private BigInteger getOrZero(List<BigInteger> elements, int i) {
-        return i < elements.size() ? elements.get(i) : BigInteger.ZERO;
+    private int getNumberOfParts() {
+        return versionParts != null ? versionParts.length : bigVersionParts.length;
+    }
+
+    private BigInteger getPart(int i) {
+        if (i >= getNumberOfParts()) {
+            return BigInteger.ZERO;
+        }
+        return versionParts != null ? BigInteger.valueOf(versionParts[i]) : bigVersionParts[i];
+    }
+
+    /**
+     * Parses this version string in the common case where it only consists of parts of up to
+     * {@link #MAX_LONG_DIGITS} digits separated by dots, without going through a regex and BigIntegers.
+     *
+     * @param versionStr The string to parse.
+     * @return The parts without trailing zeros or {@code null} if this string must be tokenized instead.
+     */
+    private static long[] parse(String versionStr) {
+        int length = versionStr.length();
+        int numberOfParts = 1;
+        for (int i = 0; i < length; i++) {
+            char c = versionStr.charAt(i);
+            if (c == '.') {
+                numberOfParts++;
+            } else if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+
+        long[] parts = new long[numberOfParts];
+        int part = 0;
+        int digits = 0;
+        long value = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || versionStr.charAt(i) == '.') {
+                if (digits == 0) {
+                    return null;
+                }
+                parts[part++] = value;
+                digits = 0;
+                value = 0;
+            } else {
+                if (++digits > MAX_LONG_DIGITS) {
+                    return null;
+                }
+                value = value * 10 + (versionStr.charAt(i) - '0');
+            }
+        }
+
+        int significantParts = numberOfParts;
+        while (significantParts > 1 && parts[significantParts - 1] == 0) {
+            significantParts--;
+        }
+        return significantParts == numberOfParts ? parts : Arrays.copyOf(parts, significantParts);
+    }
+
+    /**
+     * Converts these parts to longs if they all fit, so equal versions always share the same representation.
+     *
+     * @param parts The parts.
+     * @return The parts as longs or {@code null} if any of them doesn't fit.
+     */
+    private static long[] toLongs(List<BigInteger> parts) {
+        long[] longs = new long[parts.size()];
+        for (int i = 0; i < longs.length; i++) {
+            if (parts.get(i).bitLength() >= Long.SIZE) {
+                return null;
+            }
+            longs[i] = parts.get(i).longValue();
+        }
+        return longs;
     }
 
     /**
@@ -388,6 +388,61 @@ public class ClassicConfiguration implements Configuration {
      */
     private String installedBy;
 
+    /**
+     * Whether to stream SQL migrations when executing them instead of fully loading them in memory. (default: {@code false})
+     */
+    private boolean stream;
+
+    /**
+     * Whether to batch SQL statements when executing them instead of sending them individually. (default: {@code false})
+     */
+    private boolean batch;
+
+    /**
+     * The maximum number of statements to send to the database at once when batching. (default: 100)
+     */
+    private int batchSize = 100;
+
+    /**
+     * The file in which to cache the checksums and parsing results of resources on disk between runs. (default: {@code null})
+     */
+    private String resourceCacheFile;
+
+    /**
+     * The number of threads to use for resolving SQL migrations. (default: 1)
+     */
+    private int resolveThreads = 1;
+
+    /**
+     * Whether to resolve versioned SQL migrations lazily. (default: false)
+     */
+    private boolean lazyResolve;
+
+    /**
+     * The maximum number of seconds to wait for the lock on the schema history table. (default: 600)
+     */
+    private int lockWaitTimeout = 600;
+
+    /**
+     * The number of threads to use for cleaning schemas. (default: 1)
+     */
+    private int cleanThreads = 1;
+
+    /**
+     * The number of threads to use for applying independent repeatable SQL migrations. (default: 1)
+     */
+    private int repeatableThreads = 1;
+
+    /**
+     * The number of threads to use for applying versioned SQL migrations assigned to lanes. (default: 1)
+     */
+    private int laneThreads = 1;
+
+    /**
+     * The number of seconds between two progress reports during long-running operations. (default: 0)
+     */
+    private int heartbeatInterval;
+
 
 
 
@@ -1222,58 +1277,223 @@ public class ClassicConfiguration implements Configuration {
 
     @Override
     public boolean isStream() {
-
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("stream");
-
-
-
-
+        return stream;
     }
 
     /**
      * Whether to stream SQL migrations when executing them. Streaming doesn't load the entire migration in memory at
      * once. Instead each statement is loaded individually. This is particularly useful for very large SQL migrations
      * composed of multiple MB or even GB of reference data, as this dramatically reduces Flyway's memory consumption.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      *
      * @param stream {@code true} to stream SQL migrations. {@code false} to fully loaded them in memory instead. (default: {@code false})
      */
     public void setStream(boolean stream) {
+        this.stream = stream;
+    }
 
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("stream");
+    @Override
+    public boolean isBatch() {
+        return batch;
+    }
 
+    /**
+     * Whether to batch SQL statements when executing them. Batching can save up to 99 percent of network roundtrips by
+     * sending up to {@code batchSize} statements at once over the network to the database, instead of sending each
+     * statement individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
+     * reference data, as this can dramatically reduce the network overhead. This is supported for INSERT, UPDATE,
+     * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
+     *
+     * @param batch {@code true} to batch SQL statements. {@code false} to execute them individually instead. (default: {@code false})
+     */
+    public void setBatch(boolean batch) {
+        this.batch = batch;
+    }
 
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
 
+    /**
+     * The maximum number of statements to send to the database at once when {@code batch} is enabled. Larger batches
+     * save more network roundtrips at the cost of holding more statements in memory and in the driver at once.
+     *
+     * @param batchSize The maximum number of statements per batch. (default: 100)
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new FlywayException("Invalid batchSize (must be 1 or greater): " + batchSize, ErrorCode.CONFIGURATION);
+        }
+        this.batchSize = batchSize;
+    }
 
+    @Override
+    public String getResourceCacheFile() {
+        return resourceCacheFile;
+    }
+
+    /**
+     * The file in which Flyway caches the checksums and parsing results of migrations and callbacks located on disk
+     * between runs. Files whose size and last modification time are unchanged are then not read again, which
+     * considerably speeds up startup when a large number of migrations has already been applied.
+     *
+     * @param resourceCacheFile The path of the cache file or {@code null} to disable the cache. (default: {@code null})
+     */
+    public void setResourceCacheFile(String resourceCacheFile) {
+        this.resourceCacheFile = resourceCacheFile;
     }
 
     @Override
-    public boolean isBatch() {
+    public int getResolveThreads() {
+        return resolveThreads;
+    }
 
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("batch");
+    /**
+     * The number of threads to use for resolving SQL migrations. With more than one thread, the checksums of SQL
+     * migrations are calculated in parallel, which considerably speeds up resolution when there are many migrations on
+     * slow storage.
+     *
+     * @param resolveThreads The number of threads. (default: 1)
+     */
+    public void setResolveThreads(int resolveThreads) {
+        if (resolveThreads < 1) {
+            throw new FlywayException("Invalid number of resolveThreads (must be 1 or greater): " + resolveThreads, ErrorCode.CONFIGURATION);
+        }
+        this.resolveThreads = resolveThreads;
+    }
 
+    @Override
+    public boolean isLazyResolve() {
+        return lazyResolve;
+    }
+
+    /**
+     * Whether to resolve versioned SQL migrations lazily. Their checksums are then only calculated and their scripts
+     * only loaded once they are actually needed for validation or execution, so the time to resolve migrations scales
+     * with the number of pending migrations rather than the size of the history.
+     *
+     * @param lazyResolve {@code true} to resolve versioned SQL migrations lazily, {@code false} to resolve them
+     * upfront. (default: false)
+     */
+    public void setLazyResolve(boolean lazyResolve) {
+        this.lazyResolve = lazyResolve;
+    }
 
+    @Override
+    public int getLockWaitTimeout() {
+        return lockWaitTimeout;
+    }
 
+    /**
+     * The maximum number of seconds to wait for the lock on the schema history table held by another Flyway instance.
+     * Where the database supports it, the wait happens on the server, otherwise Flyway retries with a randomized
+     * backoff until this time is up.
+     * 0 to wait indefinitely. Before this option was introduced, MySQL waited indefinitely and SQL Server for one hour;
+     * set it to 0 or 3600 respectively to keep that behavior.
+     *
+     * @param lockWaitTimeout The maximum number of seconds to wait for the lock. (default: 600)
+     */
+    public void setLockWaitTimeout(int lockWaitTimeout) {
+        if (lockWaitTimeout < 0) {
+            throw new FlywayException("Invalid lockWaitTimeout (must be 0 or greater): " + lockWaitTimeout, ErrorCode.CONFIGURATION);
+        }
+        this.lockWaitTimeout = lockWaitTimeout;
+    }
 
+    @Override
+    public int getCleanThreads() {
+        return cleanThreads;
     }
 
     /**
-     * Whether to batch SQL statements when executing them. Batching can save up to 99 percent of network roundtrips by
-     * sending up to 100 statements at once over the network to the database, instead of sending each statement
-     * individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
-     * reference data, as this can dramatically reduce the network overhead. This is supported for INSERT, UPDATE,
-     * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
+     * The number of threads to use for cleaning schemas. With more than one thread, the schemas are cleaned in parallel
+     * on separate connections, which considerably speeds up cleaning many schemas. Schemas which can't be cleaned in
+     * parallel due to dependencies between them are cleaned again one after the other.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
      *
-     * @param batch {@code true} to batch SQL statements. {@code false} to execute them individually instead. (default: {@code false})
+     * @param cleanThreads The number of threads. (default: 1)
      */
-    public void setBatch(boolean batch) {
+    public void setCleanThreads(int cleanThreads) {
+        if (cleanThreads < 1) {
+            throw new FlywayException("Invalid number of cleanThreads (must be 1 or greater): " + cleanThreads, ErrorCode.CONFIGURATION);
+        }
+        this.cleanThreads = cleanThreads;
+    }
 
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("batch");
+    @Override
+    public int getRepeatableThreads() {
+        return repeatableThreads;
+    }
 
+    /**
+     * The number of threads to use for applying repeatable SQL migrations marked as independent with independent=true
+     * in their script configuration file. With more than one thread, consecutive pending independent repeatable
+     * migrations are applied in parallel, each on a connection of its own, and recorded in the schema history table in
+     * their usual order. Those which fail, for example because they depend on another one, are retried one after the
+     * other. This has no effect when group is enabled or when callbacks are configured for the events fired around each
+     * migration.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     *
+     * @param repeatableThreads The number of threads. (default: 1)
+     */
+    public void setRepeatableThreads(int repeatableThreads) {
+        if (repeatableThreads < 1) {
+            throw new FlywayException("Invalid number of repeatableThreads (must be 1 or greater): " + repeatableThreads, ErrorCode.CONFIGURATION);
+        }
+        this.repeatableThreads = repeatableThreads;
+    }
 
+    @Override
+    public int getLaneThreads() {
+        return laneThreads;
+    }
+
+    /**
+     * The number of threads to use for applying versioned SQL migrations assigned to a lane with lane=<name> in their
+     * script configuration file. With more than one thread, consecutive pending migrations assigned to lanes are
+     * applied with one connection per lane, the lanes in parallel and the migrations within each lane in version order.
+     * The migrations are still recorded in the schema history table in version order: a migration completed before
+     * an earlier one of another lane keeps its transaction open until that one has been recorded and is rolled back if
+     * it wasn't, while migrations that can't be rolled back wait for all earlier ones before starting. When a
+     * migration fails, no further migration is started in any lane and the schema history table is left as if the
+     * migrations had been applied one after the other, so migrate can simply be run again once the failed migration
+     * has been fixed. As migrations may hold their locks while waiting, those of different lanes must not touch the
+     * same objects. This has no effect on databases without DDL transactions, when group is enabled or when callbacks
+     * are configured for the events fired around each migration.
+     * When there are more lanes than threads, they are applied in successive runs of at most this many lanes.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     *
+     * @param laneThreads The number of threads. (default: 1)
+     */
+    public void setLaneThreads(int laneThreads) {
+        if (laneThreads < 1) {
+            throw new FlywayException("Invalid number of laneThreads (must be 1 or greater): " + laneThreads, ErrorCode.CONFIGURATION);
+        }
+        this.laneThreads = laneThreads;
+    }
 
+    @Override
+    public int getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
 
+    /**
+     * The number of seconds between two progress reports during long-running operations. While a migration runs for
+     * longer than this, Flyway logs which migration and statement it is executing and for how long. Instances waiting
+     * for the schema history lock report on the instance holding it at the same interval, including its current
+     * migration on databases where it can be published to other sessions such as PostgreSQL. 0 to disable progress
+     * reports. They are disabled by default, as publishing the current migration costs a roundtrip per migration.
+     *
+     * @param heartbeatInterval The number of seconds between two progress reports. {@code 0} if disabled. (default: 0)
+     */
+    public void setHeartbeatInterval(int heartbeatInterval) {
+        if (heartbeatInterval < 0) {
+            throw new FlywayException("Invalid heartbeatInterval (must be 0 or greater): " + heartbeatInterval, ErrorCode.CONFIGURATION);
+        }
+        this.heartbeatInterval = heartbeatInterval;
     }
 
     /**
@@ -1595,6 +1815,8 @@ public class ClassicConfiguration implements Configuration {
         setBaselineDescription(configuration.getBaselineDescription());
         setBaselineOnMigrate(configuration.isBaselineOnMigrate());
         setBaselineVersion(configuration.getBaselineVersion());
+        setBatch(configuration.isBatch());
+        setBatchSize(configuration.getBatchSize());
         setCallbacks(configuration.getCallbacks());
         setCleanDisabled(configuration.isCleanDisabled());
         setCleanOnValidationError(configuration.isCleanOnValidationError());
@@ -1630,6 +1852,14 @@ public class ClassicConfiguration implements Configuration {
         setPlaceholderSuffix(configuration.getPlaceholderSuffix());
         setRepeatableSqlMigrationPrefix(configuration.getRepeatableSqlMigrationPrefix());
         setResolvers(configuration.getResolvers());
+        setResourceCacheFile(configuration.getResourceCacheFile());
+        setResolveThreads(configuration.getResolveThreads());
+        setLazyResolve(configuration.isLazyResolve());
+        setLockWaitTimeout(configuration.getLockWaitTimeout());
+        setCleanThreads(configuration.getCleanThreads());
+        setRepeatableThreads(configuration.getRepeatableThreads());
+        setLaneThreads(configuration.getLaneThreads());
+        setHeartbeatInterval(configuration.getHeartbeatInterval());
         setDefaultSchema(configuration.getDefaultSchema());
         setSchemas(configuration.getSchemas());
         setSkipDefaultCallbacks(configuration.isSkipDefaultCallbacks());
@@ -1637,6 +1867,7 @@ public class ClassicConfiguration implements Configuration {
         setSqlMigrationPrefix(configuration.getSqlMigrationPrefix());
         setSqlMigrationSeparator(configuration.getSqlMigrationSeparator());
         setSqlMigrationSuffixes(configuration.getSqlMigrationSuffixes());
+        setStream(configuration.isStream());
         setTable(configuration.getTable());
         setTablespace(configuration.getTablespace());
         setTarget(configuration.getTarget());
@@ -1831,6 +2062,38 @@ public class ClassicConfiguration implements Configuration {
         if (StringUtils.hasLength(resolversProp)) {
             setResolversAsClassNames(StringUtils.tokenizeToStringArray(resolversProp, ","));
         }
+        String resourceCacheFileProp = props.remove(ConfigUtils.RESOURCE_CACHE_FILE);
+        if (resourceCacheFileProp != null) {
+            setResourceCacheFile(resourceCacheFileProp);
+        }
+        Integer resolveThreadsProp = removeInteger(props, ConfigUtils.RESOLVE_THREADS);
+        if (resolveThreadsProp != null) {
+            setResolveThreads(resolveThreadsProp);
+        }
+        Boolean lazyResolveProp = removeBoolean(props, ConfigUtils.LAZY_RESOLVE);
+        if (lazyResolveProp != null) {
+            setLazyResolve(lazyResolveProp);
+        }
+        Integer lockWaitTimeoutProp = removeInteger(props, ConfigUtils.LOCK_WAIT_TIMEOUT);
+        if (lockWaitTimeoutProp != null) {
+            setLockWaitTimeout(lockWaitTimeoutProp);
+        }
+        Integer cleanThreadsProp = removeInteger(props, ConfigUtils.CLEAN_THREADS);
+        if (cleanThreadsProp != null) {
+            setCleanThreads(cleanThreadsProp);
+        }
+        Integer repeatableThreadsProp = removeInteger(props, ConfigUtils.REPEATABLE_THREADS);
+        if (repeatableThreadsProp != null) {
+            setRepeatableThreads(repeatableThreadsProp);
+        }
+        Integer laneThreadsProp = removeInteger(props, ConfigUtils.LANE_THREADS);
+        if (laneThreadsProp != null) {
+            setLaneThreads(laneThreadsProp);
+        }
+        Integer heartbeatIntervalProp = removeInteger(props, ConfigUtils.HEARTBEAT_INTERVAL);
+        if (heartbeatIntervalProp != null) {
+            setHeartbeatInterval(heartbeatIntervalProp);
+        }
         Boolean skipDefaultResolversProp = removeBoolean(props, ConfigUtils.SKIP_DEFAULT_RESOLVERS);
         if (skipDefaultResolversProp != null) {
             setSkipDefaultResolvers(skipDefaultResolversProp);
@@ -1895,6 +2158,11 @@ public class ClassicConfiguration implements Configuration {
             setBatch(batchProp);
         }
 
+        Integer batchSizeProp = removeInteger(props, ConfigUtils.BATCH_SIZE);
+        if (batchSizeProp != null) {
+            setBatchSize(batchSizeProp);
+        }
+
         Boolean oracleSqlplusProp = removeBoolean(props, ConfigUtils.ORACLE_SQLPLUS);
         if (oracleSqlplusProp != null) {
             setOracleSqlplus(oracleSqlplusProp);
@@ -273,6 +273,51 @@ public class FluentConfiguration implements Configuration {
         return config.isBatch();
     }
 
+    @Override
+    public int getBatchSize() {
+        return config.getBatchSize();
+    }
+
+    @Override
+    public String getResourceCacheFile() {
+        return config.getResourceCacheFile();
+    }
+
+    @Override
+    public int getResolveThreads() {
+        return config.getResolveThreads();
+    }
+
+    @Override
+    public boolean isLazyResolve() {
+        return config.isLazyResolve();
+    }
+
+    @Override
+    public int getLockWaitTimeout() {
+        return config.getLockWaitTimeout();
+    }
+
+    @Override
+    public int getCleanThreads() {
+        return config.getCleanThreads();
+    }
+
+    @Override
+    public int getRepeatableThreads() {
+        return config.getRepeatableThreads();
+    }
+
+    @Override
+    public int getLaneThreads() {
+        return config.getLaneThreads();
+    }
+
+    @Override
+    public int getHeartbeatInterval() {
+        return config.getHeartbeatInterval();
+    }
+
     @Override
     public boolean isOracleSqlplus() {
         return config.isOracleSqlplus();
@@ -964,7 +1009,6 @@ public class FluentConfiguration implements Configuration {
      * Whether to stream SQL migrations when executing them. Streaming doesn't load the entire migration in memory at
      * once. Instead each statement is loaded individually. This is particularly useful for very large SQL migrations
      * composed of multiple MB or even GB of reference data, as this dramatically reduces Flyway's memory consumption.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      *
      * @param stream {@code true} to stream SQL migrations. {@code false} to fully loaded them in memory instead. (default: {@code false})
      */
@@ -975,11 +1019,10 @@ public class FluentConfiguration implements Configuration {
 
     /**
      * Whether to batch SQL statements when executing them. Batching can save up to 99 percent of network roundtrips by
-     * sending up to 100 statements at once over the network to the database, instead of sending each statement
-     * individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
+     * sending up to {@code batchSize} statements at once over the network to the database, instead of sending each
+     * statement individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
      * reference data, as this can dramatically reduce the network overhead. This is supported for INSERT, UPDATE,
      * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      *
      * @param batch {@code true} to batch SQL statements. {@code false} to execute them individually instead. (default: {@code false})
      */
@@ -988,6 +1031,136 @@ public class FluentConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * The maximum number of statements to send to the database at once when {@code batch} is enabled. Larger batches
+     * save more network roundtrips at the cost of holding more statements in memory and in the driver at once.
+     *
+     * @param batchSize The maximum number of statements per batch. (default: 100)
+     */
+    public FluentConfiguration batchSize(int batchSize) {
+        config.setBatchSize(batchSize);
+        return this;
+    }
+
+    /**
+     * The file in which Flyway caches the checksums and parsing results of migrations and callbacks located on disk
+     * between runs. Files whose size and last modification time are unchanged are then not read again, which
+     * considerably speeds up startup when a large number of migrations has already been applied.
+     *
+     * @param resourceCacheFile The path of the cache file or {@code null} to disable the cache. (default: {@code null})
+     */
+    public FluentConfiguration resourceCacheFile(String resourceCacheFile) {
+        config.setResourceCacheFile(resourceCacheFile);
+        return this;
+    }
+
+    /**
+     * The number of threads to use for resolving SQL migrations. With more than one thread, the checksums of SQL
+     * migrations are calculated in parallel, which considerably speeds up resolution when there are many migrations on
+     * slow storage.
+     *
+     * @param resolveThreads The number of threads. (default: 1)
+     */
+    public FluentConfiguration resolveThreads(int resolveThreads) {
+        config.setResolveThreads(resolveThreads);
+        return this;
+    }
+
+    /**
+     * Whether to resolve versioned SQL migrations lazily. Their checksums are then only calculated and their scripts
+     * only loaded once they are actually needed for validation or execution, so the time to resolve migrations scales
+     * with the number of pending migrations rather than the size of the history.
+     *
+     * @param lazyResolve {@code true} to resolve versioned SQL migrations lazily, {@code false} to resolve them
+     * upfront. (default: false)
+     */
+    public FluentConfiguration lazyResolve(boolean lazyResolve) {
+        config.setLazyResolve(lazyResolve);
+        return this;
+    }
+
+    /**
+     * The maximum number of seconds to wait for the lock on the schema history table held by another Flyway instance.
+     * Where the database supports it, the wait happens on the server, otherwise Flyway retries with a randomized
+     * backoff until this time is up.
+     * 0 to wait indefinitely. Before this option was introduced, MySQL waited indefinitely and SQL Server for one hour;
+     * set it to 0 or 3600 respectively to keep that behavior.
+     *
+     * @param lockWaitTimeout The maximum number of seconds to wait for the lock. (default: 600)
+     */
+    public FluentConfiguration lockWaitTimeout(int lockWaitTimeout) {
+        config.setLockWaitTimeout(lockWaitTimeout);
+        return this;
+    }
+
+    /**
+     * The number of threads to use for cleaning schemas. With more than one thread, the schemas are cleaned in parallel
+     * on separate connections, which considerably speeds up cleaning many schemas. Schemas which can't be cleaned in
+     * parallel due to dependencies between them are cleaned again one after the other.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     *
+     * @param cleanThreads The number of threads. (default: 1)
+     */
+    public FluentConfiguration cleanThreads(int cleanThreads) {
+        config.setCleanThreads(cleanThreads);
+        return this;
+    }
+
+    /**
+     * The number of threads to use for applying repeatable SQL migrations marked as independent with independent=true
+     * in their script configuration file. With more than one thread, consecutive pending independent repeatable
+     * migrations are applied in parallel, each on a connection of its own, and recorded in the schema history table in
+     * their usual order. Those which fail, for example because they depend on another one, are retried one after the
+     * other. This has no effect when group is enabled or when callbacks are configured for the events fired around each
+     * migration.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     *
+     * @param repeatableThreads The number of threads. (default: 1)
+     */
+    public FluentConfiguration repeatableThreads(int repeatableThreads) {
+        config.setRepeatableThreads(repeatableThreads);
+        return this;
+    }
+
+    /**
+     * The number of threads to use for applying versioned SQL migrations assigned to a lane with lane=<name> in their
+     * script configuration file. With more than one thread, consecutive pending migrations assigned to lanes are
+     * applied with one connection per lane, the lanes in parallel and the migrations within each lane in version order.
+     * The migrations are still recorded in the schema history table in version order: a migration completed before
+     * an earlier one of another lane keeps its transaction open until that one has been recorded and is rolled back if
+     * it wasn't, while migrations that can't be rolled back wait for all earlier ones before starting. When a
+     * migration fails, no further migration is started in any lane and the schema history table is left as if the
+     * migrations had been applied one after the other, so migrate can simply be run again once the failed migration
+     * has been fixed. As migrations may hold their locks while waiting, those of different lanes must not touch the
+     * same objects. This has no effect on databases without DDL transactions, when group is enabled or when callbacks
+     * are configured for the events fired around each migration.
+     * When there are more lanes than threads, they are applied in successive runs of at most this many lanes.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     *
+     * @param laneThreads The number of threads. (default: 1)
+     */
+    public FluentConfiguration laneThreads(int laneThreads) {
+        config.setLaneThreads(laneThreads);
+        return this;
+    }
+
+    /**
+     * The number of seconds between two progress reports during long-running operations. While a migration runs for
+     * longer than this, Flyway logs which migration and statement it is executing and for how long. Instances waiting
+     * for the schema history lock report on the instance holding it at the same interval, including its current
+     * migration on databases where it can be published to other sessions such as PostgreSQL. 0 to disable progress
+     * reports. They are disabled by default, as publishing the current migration costs a roundtrip per migration.
+     *
+     * @param heartbeatInterval The number of seconds between two progress reports. {@code 0} if disabled. (default: 0)
+     */
+    public FluentConfiguration heartbeatInterval(int heartbeatInterval) {
+        config.setHeartbeatInterval(heartbeatInterval);
+        return this;
+    }
+
     /**
      * Whether to Flyway's support for Oracle SQL*Plus commands should be activated.
      * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
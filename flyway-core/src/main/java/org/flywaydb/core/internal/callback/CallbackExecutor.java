@@ -54,6 +54,14 @@ public interface CallbackExecutor {
      */
     void onEachMigrateOrUndoEvent(Event event);
 
+    /**
+     * Checks whether any callback may handle this event.
+     *
+     * @param event The event.
+     * @return {@code true} if one may, {@code false} if none will.
+     */
+    boolean hasCallbacks(Event event);
+
 
 
 
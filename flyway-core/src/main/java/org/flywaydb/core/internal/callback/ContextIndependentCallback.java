@@ -0,0 +1,25 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.callback;
+
+import org.flywaydb.core.api.callback.Callback;
+
+/**
+ * A callback whose support for an event only depends on the event itself and never on its context. The callbacks
+ * supporting each event can then be determined once upfront instead of every time the event fires.
+ */
+public interface ContextIndependentCallback extends Callback {
+}
@@ -17,6 +17,7 @@ package org.flywaydb.core.internal.callback;
 
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.callback.BaseCallback;
 import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.callback.Context;
 import org.flywaydb.core.api.callback.Error;
@@ -28,8 +29,12 @@ import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.jdbc.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -39,7 +44,13 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
     private final Configuration configuration;
     private final Database database;
     private final Schema schema;
-    private final Collection<Callback> callbacks;
+
+    /**
+     * The callbacks which may support each event, in the order in which they were passed in. Callbacks which are known
+     * not to support an event have already been filtered out. Events without any such callback are not present.
+     */
+    private final Map<Event, List<Callback>> callbacksByEvent = new EnumMap<>(Event.class);
+
     private MigrationInfo migrationInfo;
 
     /**
@@ -54,7 +65,52 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
         this.configuration = configuration;
         this.database = database;
         this.schema = schema;
-        this.callbacks = callbacks;
+
+        for (Event event : Event.values()) {
+            List<Callback> eventCallbacks = new ArrayList<>();
+            for (Callback callback : callbacks) {
+                if (!isContextIndependent(callback) || callback.supports(event, null)) {
+                    eventCallbacks.add(callback);
+                }
+            }
+            if (!eventCallbacks.isEmpty()) {
+                callbacksByEvent.put(event, eventCallbacks);
+            }
+        }
+    }
+
+    /**
+     * Checks whether this callback only looks at the event to determine whether it supports it. Only for these
+     * callbacks can {@link Callback#supports(Event, Context)} be evaluated upfront. All others are asked every time.
+     *
+     * @param callback The callback.
+     * @return {@code true} if it does, {@code false} if it may also look at the context.
+     */
+    private static boolean isContextIndependent(Callback callback) {
+        if (callback instanceof ContextIndependentCallback) {
+            return true;
+        }
+        if (callback instanceof BaseCallback) {
+            // Unless overridden, BaseCallback supports all events regardless of their context
+            try {
+                return callback.getClass().getMethod("supports", Event.class, Context.class).getDeclaringClass()
+                        == BaseCallback.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the callbacks which may support this event.
+     *
+     * @param event The event.
+     * @return The callbacks. An empty list if none do.
+     */
+    private List<Callback> getCallbacks(Event event) {
+        List<Callback> eventCallbacks = callbacksByEvent.get(event);
+        return eventCallbacks == null ? Collections.<Callback>emptyList() : eventCallbacks;
     }
 
     @Override
@@ -72,10 +128,20 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
         this.migrationInfo = migrationInfo;
     }
 
+    @Override
+    public boolean hasCallbacks(Event event) {
+        return callbacksByEvent.containsKey(event);
+    }
+
     @Override
     public void onEachMigrateOrUndoEvent(Event event) {
+        List<Callback> eventCallbacks = getCallbacks(event);
+        if (eventCallbacks.isEmpty()) {
+            return;
+        }
+
         final Context context = new SimpleContext(configuration, database.getMigrationConnection(), migrationInfo);
-        for (Callback callback : callbacks) {
+        for (Callback callback : eventCallbacks) {
             if (callback.supports(event, context)) {
                 callback.handle(event, context);
             }
@@ -96,9 +162,13 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
 
 
     private void execute(final Event event, final Connection connection) {
-        final Context context = new SimpleContext(configuration, connection, null);
+        List<Callback> eventCallbacks = getCallbacks(event);
+        if (eventCallbacks.isEmpty()) {
+            return;
+        }
 
-        for (final Callback callback : callbacks) {
+        final Context context = new SimpleContext(configuration, connection, null);
+        for (final Callback callback : eventCallbacks) {
             if (callback.supports(event, context)) {
                 if (callback.canHandleInTransaction(event, context)) {
                     new TransactionTemplate(connection.getJdbcConnection()).execute(new Callable<Void>() {
@@ -118,6 +188,7 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
     private void execute(Connection connection, Callback callback, Event event, Context context) {
         connection.restoreOriginalState();
         connection.changeCurrentSchemaTo(schema);
+        connection.invalidateState();
         handleEvent(callback, event, context);
     }
 
@@ -15,14 +15,13 @@
  */
 package org.flywaydb.core.internal.callback;
 
-import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.callback.Context;
 import org.flywaydb.core.api.callback.Event;
 
 /**
  * Callback that does nothing.
  */
-public enum NoopCallback implements Callback {
+public enum NoopCallback implements ContextIndependentCallback {
     INSTANCE;
 
     @Override
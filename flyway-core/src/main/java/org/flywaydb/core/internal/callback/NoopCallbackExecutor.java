@@ -44,6 +44,11 @@ public enum NoopCallbackExecutor implements CallbackExecutor {
     public void onEachMigrateOrUndoEvent(Event event) {
     }
 
+    @Override
+    public boolean hasCallbacks(Event event) {
+        return false;
+    }
+
 
 
 
@@ -94,7 +94,7 @@ public class SqlScriptCallbackFactory {
         return new ArrayList<>(callbacks);
     }
 
-    private static class SqlScriptCallback implements Callback, Comparable<SqlScriptCallback> {
+    private static class SqlScriptCallback implements ContextIndependentCallback, Comparable<SqlScriptCallback> {
         private final Event event;
         private final String description;
         private final SqlScriptExecutorFactory sqlScriptExecutorFactory;
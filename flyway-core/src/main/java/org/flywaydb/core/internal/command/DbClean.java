@@ -29,7 +29,12 @@ import org.flywaydb.core.internal.util.StopWatch;
 import org.flywaydb.core.internal.util.TimeFormat;
 import org.flywaydb.core.internal.jdbc.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Main workflow for cleaning the database.
@@ -37,6 +42,11 @@ import java.util.concurrent.Callable;
 public class DbClean {
     private static final Log LOG = LogFactory.getLog(DbClean.class);
 
+    /**
+     * The database to clean.
+     */
+    private final Database database;
+
     /**
      * The connection to use.
      */
@@ -63,6 +73,11 @@ public class DbClean {
      */
     private boolean cleanDisabled;
 
+    /**
+     * The number of threads to use for cleaning schemas.
+     */
+    private final int cleanThreads;
+
     /**
      * Creates a new database cleaner.
      *
@@ -71,14 +86,17 @@ public class DbClean {
      * @param schemas          The schemas to clean.
      * @param callbackExecutor The callback executor.
      * @param cleanDisabled    Whether to disable clean.
+     * @param cleanThreads     The number of threads to use for cleaning schemas.
      */
     public DbClean(Database database, SchemaHistory schemaHistory, Schema[] schemas,
-                   CallbackExecutor callbackExecutor, boolean cleanDisabled) {
+                   CallbackExecutor callbackExecutor, boolean cleanDisabled, int cleanThreads) {
+        this.database = database;
         this.connection = database.getMainConnection();
         this.schemaHistory = schemaHistory;
         this.schemas = schemas;
         this.callbackExecutor = callbackExecutor;
         this.cleanDisabled = cleanDisabled;
+        this.cleanThreads = cleanThreads;
     }
 
     /**
@@ -101,34 +119,100 @@ public class DbClean {
                 LOG.error("Error while checking whether the schemas should be dropped", e);
             }
 
+            List<Schema> existingSchemas = new ArrayList<>();
             for (Schema schema : schemas) {
                 if (!schema.exists()) {
                     LOG.warn("Unable to clean unknown schema: " + schema);
                     continue;
                 }
+                existingSchemas.add(schema);
+            }
 
-                if (dropSchemas) {
-                    dropSchema(schema);
-                } else {
-                    cleanSchema(schema);
+            if (cleanThreads > 1 && existingSchemas.size() > 1 && database.supportsParallelConnections()) {
+                cleanInParallel(existingSchemas, dropSchemas);
+            } else {
+                for (Schema schema : existingSchemas) {
+                    cleanOrDropSchema(connection, schema, dropSchemas);
                 }
             }
         } catch (FlywayException e) {
+            database.invalidateSchemas();
             callbackExecutor.onEvent(Event.AFTER_CLEAN_ERROR);
             throw e;
         }
 
+        database.invalidateSchemas();
         callbackExecutor.onEvent(Event.AFTER_CLEAN);
         schemaHistory.clearCache();
     }
 
+    /**
+     * Cleans these schemas in parallel, each on a connection of its own. Schemas which fail to be cleaned, typically
+     * because of objects depending on objects in other schemas, are cleaned once more one after the other on the main
+     * connection once all others are done.
+     *
+     * @param schemas     The schemas to clean.
+     * @param dropSchemas Whether to drop the schemas instead of cleaning them.
+     * @throws FlywayException when clean failed.
+     */
+    private void cleanInParallel(List<Schema> schemas, final boolean dropSchemas) {
+        List<Callable<Void>> tasks = new ArrayList<>(schemas.size());
+        for (final Schema schema : schemas) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    Connection schemaConnection = database.openConnection();
+                    try {
+                        cleanOrDropSchema(schemaConnection, schemaConnection.getSchema(schema.getName()), dropSchemas);
+                    } finally {
+                        schemaConnection.close();
+                    }
+                    return null;
+                }
+            });
+        }
+
+        List<Schema> failedSchemas = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(Math.min(cleanThreads, schemas.size()));
+        try {
+            List<Future<Void>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    LOG.debug("Unable to clean schema " + schemas.get(i) + " in parallel: " + e.getCause().getMessage());
+                    failedSchemas.add(schemas.get(i));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while cleaning schemas", e);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (Schema schema : failedSchemas) {
+            LOG.info("Retrying clean of schema " + schema + " ...");
+            cleanOrDropSchema(connection, schema, dropSchemas);
+        }
+    }
+
+    private void cleanOrDropSchema(Connection connection, Schema schema, boolean dropSchemas) {
+        if (dropSchemas) {
+            dropSchema(connection, schema);
+        } else {
+            cleanSchema(connection, schema);
+        }
+    }
+
     /**
      * Drops this schema.
      *
-     * @param schema The schema to drop.
+     * @param connection The connection to use.
+     * @param schema     The schema to drop.
      * @throws FlywayException when the drop failed.
      */
-    private void dropSchema(final Schema schema) {
+    private void dropSchema(Connection connection, final Schema schema) {
         LOG.debug("Dropping schema " + schema + " ...");
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
@@ -159,10 +243,11 @@ public class DbClean {
     /**
      * Cleans this schema of all objects.
      *
-     * @param schema The schema to clean.
+     * @param connection The connection to use.
+     * @param schema     The schema to clean.
      * @throws FlywayException when clean failed.
      */
-    private void cleanSchema(final Schema schema) {
+    private void cleanSchema(Connection connection, final Schema schema) {
         LOG.debug("Cleaning schema " + schema + " ...");
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
@@ -34,19 +34,27 @@ import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.info.MigrationInfoImpl;
 import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
 import org.flywaydb.core.internal.jdbc.TransactionTemplate;
+import org.flywaydb.core.internal.resolver.sql.SqlMigrationExecutor;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.flywaydb.core.internal.sqlscript.SqlScriptProgress;
 import org.flywaydb.core.internal.util.ExceptionUtils;
 import org.flywaydb.core.internal.util.StopWatch;
 import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.TimeFormat;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Main workflow for migrating the database.
@@ -89,6 +97,38 @@ public class DbMigrate {
      */
     private final Connection connectionUserObjects;
 
+    /**
+     * The pending migrations as of the last migration plan, in the order in which they must be applied.
+     * {@code null} if no plan has been computed yet.
+     */
+    private MigrationInfoImpl[] plannedMigrations;
+
+    /**
+     * The index of the next planned migration to apply.
+     */
+    private int plannedIndex;
+
+    /**
+     * The number of rows the schema history table is expected to contain if no other node migrated since the last plan.
+     */
+    private int expectedAppliedCount;
+
+    /**
+     * The current version of the schema, kept up to date as planned migrations are applied.
+     */
+    private MigrationVersion currentSchemaVersion;
+
+    /**
+     * The heartbeat reporting on the progress of the migrations being applied.
+     */
+    private MigrationHeartbeat heartbeat;
+
+    /**
+     * The failure of the last lanes applied. It is only thrown once the schema history lock has been released, as
+     * the migrations of the other lanes recorded in the meantime must not be rolled back along with the lock.
+     */
+    private FlywayException laneFailure;
+
     /**
      * Creates a new database migrator.
      *
@@ -120,11 +160,12 @@ public class DbMigrate {
         callbackExecutor.onMigrateOrUndoEvent(Event.BEFORE_MIGRATE);
 
         int count;
+        heartbeat = new MigrationHeartbeat(configuration.getHeartbeatInterval());
         try {
             StopWatch stopWatch = new StopWatch();
             stopWatch.start();
 
-            count = configuration.isGroup() ?
+            count = isUpToDate() ? 0 : configuration.isGroup() ?
                     // When group is active, start the transaction boundary early to
                     // ensure that all changes to the schema history table are either committed or rolled back atomically.
                     schemaHistory.lock(new Callable<Integer>() {
@@ -142,6 +183,9 @@ public class DbMigrate {
         } catch (FlywayException e) {
             callbackExecutor.onMigrateOrUndoEvent(Event.AFTER_MIGRATE_ERROR);
             throw e;
+        } finally {
+            heartbeat.close();
+            connectionUserObjects.publishActivity(null);
         }
 
         callbackExecutor.onMigrateOrUndoEvent(Event.AFTER_MIGRATE);
@@ -163,6 +207,11 @@ public class DbMigrate {
                 }
             });
             total += count;
+            if (laneFailure != null) {
+                FlywayException failure = laneFailure;
+                laneFailure = null;
+                throw failure;
+            }
             if (count == 0) {
                 // No further migrations available
                 break;
@@ -171,6 +220,19 @@ public class DbMigrate {
         return total;
     }
 
+    /**
+     * Checks without taking the lock whether there is anything to migrate at all. This way, when many nodes migrate the
+     * same database on startup, all but the first one return straight away instead of queuing on the lock one after the
+     * other only to find nothing pending. The plan computed here is reused under the lock as long as the schema history
+     * table hasn't changed in the meantime.
+     *
+     * @return {@code true} if there are no pending migrations, {@code false} if there may be some.
+     */
+    private boolean isUpToDate() {
+        plan(true);
+        return plannedMigrations.length == 0;
+    }
+
     /**
      * Migrate a group of one (group = false) or more (group = true) migrations.
      *
@@ -178,6 +240,463 @@ public class DbMigrate {
      * @return The number of newly applied migrations.
      */
     private Integer migrateGroup(boolean firstRun) {
+        if (!isPlanUpToDate()) {
+            plan(firstRun && plannedMigrations == null);
+        }
+
+        List<MigrationInfoImpl> independentRepeatables = nextIndependentRepeatables();
+        if (!independentRepeatables.isEmpty()) {
+            LinkedHashMap<MigrationInfoImpl, Boolean> batch = new LinkedHashMap<>();
+            for (MigrationInfoImpl migration : independentRepeatables) {
+                batch.put(migration, false);
+            }
+            plannedIndex += batch.size();
+            applyInParallel(independentRepeatables);
+            advancePlan(batch);
+            return batch.size();
+        }
+
+        Map<String, List<MigrationInfoImpl>> lanes = nextLanes();
+        if (!lanes.isEmpty()) {
+            LinkedHashMap<MigrationInfoImpl, Boolean> batch = new LinkedHashMap<>();
+            for (List<MigrationInfoImpl> lane : lanes.values()) {
+                for (MigrationInfoImpl migration : lane) {
+                    batch.put(migration, migration.getVersion().compareTo(currentSchemaVersion) < 0);
+                }
+            }
+            List<MigrationInfoImpl> sequence =
+                    Arrays.asList(plannedMigrations).subList(plannedIndex, plannedIndex + batch.size());
+            plannedIndex += batch.size();
+            try {
+                applyLanes(lanes, batch, new LaneSequence(sequence));
+            } catch (FlywayException e) {
+                laneFailure = e;
+            }
+            advancePlan(batch);
+            return batch.size();
+        }
+
+        LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
+        while (plannedIndex < plannedMigrations.length) {
+            MigrationInfoImpl pendingMigration = plannedMigrations[plannedIndex++];
+            boolean isOutOfOrder = pendingMigration.getVersion() != null
+                    && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
+            group.put(pendingMigration, isOutOfOrder);
+
+            if (!configuration.isGroup()) {
+                // Only include one pending migration if group is disabled
+                break;
+            }
+        }
+
+        if (!group.isEmpty()) {
+            applyMigrations(group);
+            advancePlan(group);
+        }
+        return group.size();
+    }
+
+    /**
+     * Collects the consecutive independent repeatable migrations starting at the next planned migration, provided they
+     * can be applied in parallel. This requires more than one repeatable thread, group to be disabled and no callbacks
+     * for the events fired around each migration, as those are bound to the single migration connection.
+     *
+     * @return The migrations. An empty list if the next planned migration must be applied on its own.
+     */
+    private List<MigrationInfoImpl> nextIndependentRepeatables() {
+        List<MigrationInfoImpl> migrations = new ArrayList<>();
+        if (!canApplyInParallel(configuration.getRepeatableThreads())) {
+            return migrations;
+        }
+
+        for (int i = plannedIndex; i < plannedMigrations.length; i++) {
+            MigrationInfoImpl migration = plannedMigrations[i];
+            MigrationExecutor migrationExecutor = migration.getResolvedMigration().getExecutor();
+            if (migration.getVersion() != null || !(migrationExecutor instanceof SqlMigrationExecutor)
+                    || !((SqlMigrationExecutor) migrationExecutor).isIndependent()) {
+                break;
+            }
+            migrations.add(migration);
+        }
+
+        if (migrations.size() < 2) {
+            migrations.clear();
+        }
+        return migrations;
+    }
+
+    /**
+     * Collects the consecutive versioned migrations assigned to a lane starting at the next planned migration, grouped
+     * by lane, provided there is more than one lane and they can be applied in parallel. A migration without a lane
+     * ends the run, so it is only applied once all migrations before it in every lane have been. So does a migration
+     * of a lane beyond the number of lane threads, as every lane needs a thread of its own: its migrations may wait
+     * for those of the other lanes, which would never start if they were queued behind it.
+     *
+     * @return The migrations of each lane in the order in which they must be applied. An empty map if the next
+     * planned migration must be applied on its own.
+     */
+    private Map<String, List<MigrationInfoImpl>> nextLanes() {
+        Map<String, List<MigrationInfoImpl>> lanes = new LinkedHashMap<>();
+        if (!canApplyInParallel(configuration.getLaneThreads())) {
+            return lanes;
+        }
+        // Migrations completed ahead of an earlier one must be rolled back should that one fail
+        if (!database.supportsDdlTransactions()) {
+            LOG.debug("Not applying lanes in parallel as " + database + " doesn't support DDL transactions");
+            return lanes;
+        }
+
+        for (int i = plannedIndex; i < plannedMigrations.length; i++) {
+            MigrationInfoImpl migration = plannedMigrations[i];
+            MigrationExecutor migrationExecutor = migration.getResolvedMigration().getExecutor();
+            if (migration.getVersion() == null || !(migrationExecutor instanceof SqlMigrationExecutor)) {
+                break;
+            }
+            String lane = ((SqlMigrationExecutor) migrationExecutor).getLane();
+            if (lane == null) {
+                break;
+            }
+            List<MigrationInfoImpl> migrations = lanes.get(lane);
+            if (migrations == null) {
+                if (lanes.size() == configuration.getLaneThreads()) {
+                    break;
+                }
+                migrations = new ArrayList<>();
+                lanes.put(lane, migrations);
+            }
+            migrations.add(migration);
+        }
+
+        if (lanes.size() < 2) {
+            lanes.clear();
+        }
+        return lanes;
+    }
+
+    /**
+     * Checks whether migrations can be applied in parallel with this number of threads. This requires more than one
+     * thread, group to be disabled, no callbacks for the events fired around each migration, as those are bound to
+     * the single migration connection, and additional connections able to work on the database in parallel.
+     *
+     * @param threads The number of threads configured for this kind of migration.
+     * @return {@code true} if they can, {@code false} if they must be applied one after the other.
+     */
+    private boolean canApplyInParallel(int threads) {
+        return threads > 1 && !configuration.isGroup()
+                && !callbackExecutor.hasCallbacks(Event.BEFORE_EACH_MIGRATE)
+                && !callbackExecutor.hasCallbacks(Event.BEFORE_EACH_MIGRATE_STATEMENT)
+                && !callbackExecutor.hasCallbacks(Event.AFTER_EACH_MIGRATE_STATEMENT)
+                && !callbackExecutor.hasCallbacks(Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR)
+                && !callbackExecutor.hasCallbacks(Event.AFTER_EACH_MIGRATE)
+                && !callbackExecutor.hasCallbacks(Event.AFTER_EACH_MIGRATE_ERROR)
+                && database.supportsParallelConnections();
+    }
+
+    /**
+     * Applies these lanes of versioned migrations in parallel, each lane on a connection of its own and in order.
+     * The migrations are nevertheless recorded in the schema history table in version order: a migration completed
+     * before an earlier migration of another lane keeps its transaction open until that one has been recorded, and is
+     * rolled back if it wasn't. Migrations that can't be rolled back only start once all earlier migrations have been
+     * recorded. As soon as a migration fails, no lane starts any further migration and the failure is rethrown once
+     * the migrations still running have completed. This leaves the schema history table as if the migrations had been
+     * applied one after the other, so that migrate can simply be run again once the failed migration has been fixed.
+     *
+     * @param lanes    The migrations of each lane.
+     * @param batch    The migrations of all lanes, with whether each of them is applied out of order.
+     * @param sequence The migrations of all lanes in version order.
+     */
+    private void applyLanes(Map<String, List<MigrationInfoImpl>> lanes,
+                            final LinkedHashMap<MigrationInfoImpl, Boolean> batch, final LaneSequence sequence) {
+        final AtomicBoolean failed = new AtomicBoolean();
+        List<Callable<Void>> tasks = new ArrayList<>(lanes.size());
+        for (final Map.Entry<String, List<MigrationInfoImpl>> lane : lanes.entrySet()) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    applyLane(lane.getKey(), lane.getValue(), batch, sequence, failed);
+                    return null;
+                }
+            });
+        }
+
+        FlywayException failure = null;
+        // One thread per lane, so that no lane waits for a migration of a lane that hasn't started
+        ForkJoinPool pool = new ForkJoinPool(lanes.size());
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof FlywayException
+                                ? (FlywayException) e.getCause()
+                                : new FlywayException(e.getCause().getMessage(), e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while applying migrations", e);
+        } finally {
+            pool.shutdown();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Applies the migrations of this lane one after the other on a connection of its own, stopping as soon as a
+     * migration of any lane has failed.
+     *
+     * @param lane       The name of the lane.
+     * @param migrations The migrations of the lane.
+     * @param batch      The migrations of all lanes, with whether each of them is applied out of order.
+     * @param sequence   The migrations of all lanes in version order.
+     * @param failed     Whether a migration has failed, shared by all lanes.
+     */
+    private void applyLane(String lane, List<MigrationInfoImpl> migrations,
+                           Map<MigrationInfoImpl, Boolean> batch, LaneSequence sequence, AtomicBoolean failed) {
+        Connection connection = database.openConnection();
+        int next = 0;
+        try {
+            for (; next < migrations.size(); next++) {
+                MigrationInfoImpl migration = migrations.get(next);
+                if (failed.get()) {
+                    LOG.debug("Stopping lane " + lane + " as a migration in another lane failed");
+                    return;
+                }
+
+                boolean isOutOfOrder = batch.get(migration);
+                String migrationText = toMigrationText(migration, isOutOfOrder);
+                if (!migration.getResolvedMigration().getExecutor().canExecuteInTransaction()
+                        && !sequence.awaitPredecessors(migration)) {
+                    LOG.debug("Stopping lane " + lane + " as an earlier migration failed");
+                    return;
+                }
+
+                StopWatch stopWatch = new StopWatch();
+                stopWatch.start();
+                boolean committed;
+                try {
+                    connection.restoreOriginalState();
+                    committed = applyOnConnection(connection, migration, migrationText + " [lane " + lane + "]",
+                            sequence);
+                } catch (FlywayException e) {
+                    failed.set(true);
+                    recordFailure(migration, migrationText, stopWatch);
+                    throw new FlywayMigrateException(migration, isOutOfOrder, e);
+                } catch (SQLException e) {
+                    failed.set(true);
+                    recordFailure(migration, migrationText, stopWatch);
+                    throw new FlywayMigrateException(migration, isOutOfOrder, e);
+                }
+                stopWatch.stop();
+                if (!committed) {
+                    LOG.info("Rolled back " + migrationText + " as an earlier migration failed");
+                    return;
+                }
+
+                synchronized (schemaHistory) {
+                    schemaHistory.addAppliedMigration(migration.getVersion(), migration.getDescription(),
+                            migration.getType(), migration.getScript(),
+                            migration.getResolvedMigration().getChecksum(), (int) stopWatch.getTotalTimeMillis(), true);
+                }
+                sequence.done(migration, true);
+            }
+        } finally {
+            // Release the migrations of the other lanes waiting for the ones of this lane that won't be recorded
+            for (int i = next; i < migrations.size(); i++) {
+                sequence.done(migrations.get(i), false);
+            }
+            connection.close();
+        }
+    }
+
+    /**
+     * Reports the failure of this migration applied in a lane and records it in the schema history table unless its
+     * changes have been rolled back.
+     *
+     * @param migration     The migration that failed.
+     * @param migrationText The description of the migration for the log.
+     * @param stopWatch     The stop watch started when the migration was.
+     */
+    private void recordFailure(MigrationInfoImpl migration, String migrationText, StopWatch stopWatch) {
+        String failedMsg = "Migration of " + migrationText + " failed!";
+        if (database.supportsDdlTransactions() && migration.getResolvedMigration().getExecutor().canExecuteInTransaction()) {
+            LOG.error(failedMsg + " Changes successfully rolled back.");
+        } else {
+            LOG.error(failedMsg + " Please restore backups and roll back database and code!");
+
+            stopWatch.stop();
+            synchronized (schemaHistory) {
+                schemaHistory.addAppliedMigration(migration.getVersion(), migration.getDescription(),
+                        migration.getType(), migration.getScript(), migration.getResolvedMigration().getChecksum(),
+                        (int) stopWatch.getTotalTimeMillis(), false);
+            }
+        }
+    }
+
+    /**
+     * Applies these independent repeatable migrations in parallel, each on a connection of its own. They are then
+     * recorded in the schema history table in the order in which they were planned. Any migration that failed, for
+     * example because it depends on another one after all, is retried on its own at its position in that order, with
+     * the usual error handling should it fail again.
+     *
+     * @param migrations The migrations to apply.
+     */
+    private void applyInParallel(final List<MigrationInfoImpl> migrations) {
+        final int[] executionTimes = new int[migrations.size()];
+        List<Callable<Void>> tasks = new ArrayList<>(migrations.size());
+        for (int i = 0; i < migrations.size(); i++) {
+            final int index = i;
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    StopWatch stopWatch = new StopWatch();
+                    stopWatch.start();
+                    applyOnOwnConnection(migrations.get(index));
+                    stopWatch.stop();
+                    executionTimes[index] = (int) stopWatch.getTotalTimeMillis();
+                    return null;
+                }
+            });
+        }
+
+        boolean[] failed = new boolean[migrations.size()];
+        ForkJoinPool pool = new ForkJoinPool(Math.min(configuration.getRepeatableThreads(), migrations.size()));
+        try {
+            List<Future<Void>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    LOG.debug("Parallel migration of " + toMigrationText(migrations.get(i), false) + " failed: "
+                            + e.getCause().getMessage());
+                    failed[i] = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while applying repeatable migrations", e);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < migrations.size(); i++) {
+            MigrationInfoImpl migration = migrations.get(i);
+            if (failed[i]) {
+                LOG.info("Retrying repeatable migration " + migration.getDescription() + " on its own ...");
+                LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
+                group.put(migration, false);
+                applyMigrations(group);
+            } else {
+                schemaHistory.addAppliedMigration(migration.getVersion(), migration.getDescription(),
+                        migration.getType(), migration.getScript(), migration.getResolvedMigration().getChecksum(),
+                        executionTimes[i], true);
+            }
+        }
+    }
+
+    /**
+     * Applies this migration on a new connection of its own, within a transaction if possible.
+     *
+     * @param migration The migration to apply.
+     * @throws SQLException when the migration failed.
+     */
+    private void applyOnOwnConnection(MigrationInfoImpl migration) throws SQLException {
+        Connection connection = database.openConnection();
+        try {
+            applyOnConnection(connection, migration, toMigrationText(migration, false), null);
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Applies this migration on this connection other than the migration connection, within a transaction if
+     * possible.
+     *
+     * @param connection    The connection.
+     * @param migration     The migration to apply.
+     * @param migrationText The description of the migration for the log.
+     * @param sequence      The sequence of migrations whose earlier migrations must have been recorded before the
+     *                      transaction of this one is committed. {@code null} to commit it right away.
+     * @return {@code true} if the migration has been applied, {@code false} if it has been rolled back as an earlier
+     * migration of the sequence failed.
+     * @throws SQLException when the migration failed.
+     */
+    private boolean applyOnConnection(final Connection connection, final MigrationInfoImpl migration,
+                                      String migrationText, final LaneSequence sequence) throws SQLException {
+        connection.changeCurrentSchemaTo(connection.getSchema(schema.getName()));
+        final Context context = new Context() {
+            @Override
+            public Configuration getConfiguration() {
+                return configuration;
+            }
+
+            @Override
+            public java.sql.Connection getConnection() {
+                return connection.getJdbcConnection();
+            }
+        };
+        final MigrationExecutor migrationExecutor = migration.getResolvedMigration().getExecutor();
+
+        LOG.info("Migrating " + migrationText);
+        publishMigration(connection, migrationText);
+        if (mayChangeSessionState(migration.getResolvedMigration())) {
+            connection.invalidateState();
+        }
+        SqlScriptProgress progress = heartbeat.track(migrationText);
+        try {
+            if (migrationExecutor.canExecuteInTransaction()) {
+                new TransactionTemplate(connection.getJdbcConnection()).execute(new Callable<Void>() {
+                    @Override
+                    public Void call() throws SQLException {
+                        migrationExecutor.execute(context);
+                        if (sequence != null && !sequence.awaitPredecessors(migration)) {
+                            throw new EarlierMigrationFailedException();
+                        }
+                        return null;
+                    }
+                });
+            } else {
+                migrationExecutor.execute(context);
+            }
+        } catch (EarlierMigrationFailedException e) {
+            return false;
+        } finally {
+            heartbeat.untrack(progress);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the current migration plan still reflects the contents of the schema history table. This only
+     * fetches the rows added since the last read and is therefore cheap. Any row we didn't add ourselves means another
+     * node migrated in the meantime and the plan must be recomputed.
+     *
+     * @return {@code true} if the plan can still be used, {@code false} if a full re-plan is required.
+     */
+    private boolean isPlanUpToDate() {
+        if (plannedMigrations == null) {
+            return false;
+        }
+        int appliedCount = schemaHistory.allAppliedMigrations().size();
+        if (appliedCount != expectedAppliedCount) {
+            LOG.debug("Schema History table " + schemaHistory + " was modified concurrently. Recalculating pending migrations ...");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes the list of pending migrations from the resolved migrations and the schema history table.
+     *
+     * @param firstRun Where this is the first time this code runs in this migration run.
+     */
+    private void plan(boolean firstRun) {
         MigrationInfoServiceImpl infoService =
                 new MigrationInfoServiceImpl(migrationResolver, schemaHistory, configuration,
                         configuration.getTarget(), configuration.isOutOfOrder(),
@@ -185,7 +704,7 @@ public class DbMigrate {
         infoService.refresh();
 
         MigrationInfo current = infoService.current();
-        MigrationVersion currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
+        currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
         if (firstRun) {
             LOG.info("Current version of schema " + schema + ": " + currentSchemaVersion);
 
@@ -228,22 +747,24 @@ public class DbMigrate {
             }
         }
 
-        LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
-        for (MigrationInfoImpl pendingMigration : infoService.pending()) {
-            boolean isOutOfOrder = pendingMigration.getVersion() != null
-                    && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
-            group.put(pendingMigration, isOutOfOrder);
+        plannedMigrations = infoService.pending();
+        plannedIndex = 0;
+        expectedAppliedCount = schemaHistory.allAppliedMigrations().size();
+    }
 
-            if (!configuration.isGroup()) {
-                // Only include one pending migration if group is disabled
-                break;
+    /**
+     * Advances the migration plan past this successfully applied group.
+     *
+     * @param group The group of migrations that was just applied.
+     */
+    private void advancePlan(LinkedHashMap<MigrationInfoImpl, Boolean> group) {
+        expectedAppliedCount += group.size();
+        for (MigrationInfoImpl migration : group.keySet()) {
+            MigrationVersion version = migration.getVersion();
+            if (version != null && version.compareTo(currentSchemaVersion) > 0) {
+                currentSchemaVersion = version;
             }
         }
-
-        if (!group.isEmpty()) {
-            applyMigrations(group);
-        }
-        return group.size();
     }
 
     /**
@@ -363,7 +884,16 @@ public class DbMigrate {
                 callbackExecutor.onEachMigrateOrUndoEvent(Event.BEFORE_EACH_MIGRATE);
                 try {
                     LOG.info("Migrating " + migrationText);
-                    migration.getResolvedMigration().getExecutor().execute(context);
+                    publishMigration(connectionUserObjects, migrationText);
+                    if (mayChangeSessionState(migration.getResolvedMigration())) {
+                        connectionUserObjects.invalidateState();
+                    }
+                    SqlScriptProgress progress = heartbeat.track(migrationText);
+                    try {
+                        migration.getResolvedMigration().getExecutor().execute(context);
+                    } finally {
+                        heartbeat.untrack(progress);
+                    }
                 } catch (FlywayException e) {
                     callbackExecutor.onEachMigrateOrUndoEvent(Event.AFTER_EACH_MIGRATE_ERROR);
                     throw new FlywayMigrateException(migration, isOutOfOrder, e);
@@ -386,6 +916,34 @@ public class DbMigrate {
         }
     }
 
+    /**
+     * Publishes the migration about to be applied on this connection, so that instances waiting for the schema history
+     * lock can report on it. As this costs a round trip per migration, it is only done when progress reports are
+     * enabled. The connection is busy while the migration executes, so it can't be deferred until it turns out to be
+     * long-running.
+     *
+     * @param connection    The connection the migration is applied on.
+     * @param migrationText The description of the migration.
+     */
+    private void publishMigration(Connection connection, String migrationText) {
+        if (configuration.getHeartbeatInterval() > 0) {
+            connection.publishActivity("migrating " + migrationText);
+        }
+    }
+
+    /**
+     * Checks whether executing this migration may change the state of the session. Only SQL migrations consisting of
+     * a single plain DML statement delimited by a semicolon are known not to.
+     *
+     * @param resolvedMigration The migration.
+     * @return {@code true} if it may, {@code false} if it can't.
+     */
+    private static boolean mayChangeSessionState(ResolvedMigration resolvedMigration) {
+        MigrationExecutor migrationExecutor = resolvedMigration.getExecutor();
+        return !(migrationExecutor instanceof SqlMigrationExecutor)
+                || ((SqlMigrationExecutor) migrationExecutor).mayChangeSessionState();
+    }
+
     private String toMigrationText(MigrationInfoImpl migration, boolean isOutOfOrder) {
         final MigrationExecutor migrationExecutor = migration.getResolvedMigration().getExecutor();
         final String migrationText;
@@ -401,6 +959,69 @@ public class DbMigrate {
         return migrationText;
     }
 
+    /**
+     * The migrations of a batch applied in lanes, in version order. Each migration can wait for all earlier
+     * migrations of the batch to be done, so that they are recorded in the schema history table in version order no
+     * matter in which order the lanes complete them. Every migration of the batch must eventually be marked as done.
+     */
+    private static final class LaneSequence {
+        private final List<MigrationInfoImpl> migrations;
+
+        /**
+         * Whether each migration that is done has been recorded in the schema history table.
+         */
+        private final Map<MigrationInfoImpl, Boolean> recorded = new HashMap<>();
+
+        LaneSequence(List<MigrationInfoImpl> migrations) {
+            this.migrations = migrations;
+        }
+
+        /**
+         * Waits until all migrations before this one are done.
+         *
+         * @param migration The migration.
+         * @return {@code true} if they have all been recorded, {@code false} if any of them failed or was skipped.
+         */
+        synchronized boolean awaitPredecessors(MigrationInfoImpl migration) {
+            for (MigrationInfoImpl predecessor : migrations) {
+                if (predecessor == migration) {
+                    return true;
+                }
+                while (!recorded.containsKey(predecessor)) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new FlywayException("Interrupted while waiting for migration " + predecessor.getVersion(), e);
+                    }
+                }
+                if (!recorded.get(predecessor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Marks this migration as done. Later calls for the same migration are ignored.
+         *
+         * @param migration  The migration.
+         * @param isRecorded Whether it has been recorded in the schema history table.
+         */
+        synchronized void done(MigrationInfoImpl migration, boolean isRecorded) {
+            if (!recorded.containsKey(migration)) {
+                recorded.put(migration, isRecorded);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Rolls back the transaction of a migration applied in a lane as an earlier migration failed.
+     */
+    private static final class EarlierMigrationFailedException extends RuntimeException {
+    }
+
     public static class FlywayMigrateException extends FlywayException {
         private final MigrationInfoImpl migration;
         private final boolean outOfOrder;
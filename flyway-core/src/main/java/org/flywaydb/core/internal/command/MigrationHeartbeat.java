@@ -0,0 +1,119 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.command;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.sqlscript.SqlScriptProgress;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically logs the progress of the migrations being applied, so that migrations running for a long time keep
+ * giving signs of life. Each thread applying a migration tracks it for as long as it executes.
+ */
+class MigrationHeartbeat implements Closeable {
+    private static final Log LOG = LogFactory.getLog(MigrationHeartbeat.class);
+
+    /**
+     * The migrations currently being applied.
+     */
+    private final Set<SqlScriptProgress> tracked = Collections.newSetFromMap(new ConcurrentHashMap<SqlScriptProgress, Boolean>());
+
+    /**
+     * The number of milliseconds between two progress reports.
+     */
+    private final long intervalMillis;
+
+    /**
+     * The executor reporting on the progress or {@code null} if progress reports are disabled.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a new heartbeat.
+     *
+     * @param interval The number of seconds between two progress reports. {@code 0} to disable them.
+     */
+    MigrationHeartbeat(int interval) {
+        intervalMillis = TimeUnit.SECONDS.toMillis(interval);
+        if (interval <= 0) {
+            executor = null;
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "flyway-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                report();
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts tracking the migration about to be applied on the current thread.
+     *
+     * @param description The description of the migration.
+     * @return The progress of the migration, to be passed to {@link #untrack(SqlScriptProgress)} once it completed.
+     */
+    SqlScriptProgress track(String description) {
+        SqlScriptProgress progress = SqlScriptProgress.start(description);
+        if (executor != null) {
+            tracked.add(progress);
+        }
+        return progress;
+    }
+
+    /**
+     * Stops tracking this migration.
+     *
+     * @param progress The progress of the migration.
+     */
+    void untrack(SqlScriptProgress progress) {
+        progress.finish();
+        tracked.remove(progress);
+    }
+
+    private void report() {
+        for (SqlScriptProgress progress : tracked) {
+            if (progress.getElapsedMillis() >= intervalMillis) {
+                LOG.info("Still migrating " + progress);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
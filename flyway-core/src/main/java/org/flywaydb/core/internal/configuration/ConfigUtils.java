@@ -43,6 +43,7 @@ public class ConfigUtils {
     public static final String BASELINE_ON_MIGRATE = "flyway.baselineOnMigrate";
     public static final String BASELINE_VERSION = "flyway.baselineVersion";
     public static final String BATCH = "flyway.batch";
+    public static final String BATCH_SIZE = "flyway.batchSize";
     public static final String CALLBACKS = "flyway.callbacks";
     public static final String CLEAN_DISABLED = "flyway.cleanDisabled";
     public static final String CLEAN_ON_VALIDATION_ERROR = "flyway.cleanOnValidationError";
@@ -71,6 +72,14 @@ public class ConfigUtils {
     public static final String PLACEHOLDERS_PROPERTY_PREFIX = "flyway.placeholders.";
     public static final String REPEATABLE_SQL_MIGRATION_PREFIX = "flyway.repeatableSqlMigrationPrefix";
     public static final String RESOLVERS = "flyway.resolvers";
+    public static final String RESOURCE_CACHE_FILE = "flyway.resourceCacheFile";
+    public static final String RESOLVE_THREADS = "flyway.resolveThreads";
+    public static final String LAZY_RESOLVE = "flyway.lazyResolve";
+    public static final String LOCK_WAIT_TIMEOUT = "flyway.lockWaitTimeout";
+    public static final String CLEAN_THREADS = "flyway.cleanThreads";
+    public static final String REPEATABLE_THREADS = "flyway.repeatableThreads";
+    public static final String LANE_THREADS = "flyway.laneThreads";
+    public static final String HEARTBEAT_INTERVAL = "flyway.heartbeatInterval";
     public static final String SCHEMAS = "flyway.schemas";
     public static final String SKIP_DEFAULT_CALLBACKS = "flyway.skipDefaultCallbacks";
     public static final String SKIP_DEFAULT_RESOLVERS = "flyway.skipDefaultResolvers";
@@ -133,6 +142,9 @@ public class ConfigUtils {
         if ("FLYWAY_BATCH".equals(key)) {
             return BATCH;
         }
+        if ("FLYWAY_BATCH_SIZE".equals(key)) {
+            return BATCH_SIZE;
+        }
         if ("FLYWAY_CALLBACKS".equals(key)) {
             return CALLBACKS;
         }
@@ -223,6 +235,30 @@ public class ConfigUtils {
         if ("FLYWAY_RESOLVERS".equals(key)) {
             return RESOLVERS;
         }
+        if ("FLYWAY_RESOURCE_CACHE_FILE".equals(key)) {
+            return RESOURCE_CACHE_FILE;
+        }
+        if ("FLYWAY_RESOLVE_THREADS".equals(key)) {
+            return RESOLVE_THREADS;
+        }
+        if ("FLYWAY_LAZY_RESOLVE".equals(key)) {
+            return LAZY_RESOLVE;
+        }
+        if ("FLYWAY_LOCK_WAIT_TIMEOUT".equals(key)) {
+            return LOCK_WAIT_TIMEOUT;
+        }
+        if ("FLYWAY_CLEAN_THREADS".equals(key)) {
+            return CLEAN_THREADS;
+        }
+        if ("FLYWAY_REPEATABLE_THREADS".equals(key)) {
+            return REPEATABLE_THREADS;
+        }
+        if ("FLYWAY_LANE_THREADS".equals(key)) {
+            return LANE_THREADS;
+        }
+        if ("FLYWAY_HEARTBEAT_INTERVAL".equals(key)) {
+            return HEARTBEAT_INTERVAL;
+        }
         if ("FLYWAY_SCHEMAS".equals(key)) {
             return SCHEMAS;
         }
@@ -61,6 +61,7 @@ import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.ResourceCache;
 import org.flywaydb.core.internal.resource.ResourceProvider;
 import org.flywaydb.core.internal.sqlscript.*;
 
@@ -236,7 +237,8 @@ public class DatabaseFactory {
 
     public static SqlScriptFactory createSqlScriptFactory(final JdbcConnectionFactory jdbcConnectionFactory,
                                                           final Configuration configuration,
-                                                          final ParsingContext parsingContext) {
+                                                          final ParsingContext parsingContext,
+                                                          final ResourceCache resourceCache) {
         final DatabaseType databaseType = jdbcConnectionFactory.getDatabaseType();
 
 
@@ -261,7 +263,8 @@ public class DatabaseFactory {
 
 
                             , parsingContext
-                    ), resource, getMetadataResource(resourceProvider, resource), mixed);
+                    ), resource, getMetadataResource(resourceProvider, resource), mixed, configuration.isStream(),
+                            resourceCache);
                 }
             };
 
@@ -334,7 +337,8 @@ public class DatabaseFactory {
     }
 
     public static SqlScriptExecutorFactory createSqlScriptExecutorFactory(
-            final JdbcConnectionFactory jdbcConnectionFactory
+            final JdbcConnectionFactory jdbcConnectionFactory,
+            final Configuration configuration
 
 
 
@@ -353,7 +357,7 @@ public class DatabaseFactory {
 
 
                 ) {
-                    return new OracleSqlScriptExecutor(new JdbcTemplate(connection, databaseType)
+                    return new OracleSqlScriptExecutor(new JdbcTemplate(connection, databaseType), configuration.isBatch(), configuration.getBatchSize()
 
 
 
@@ -369,7 +373,7 @@ public class DatabaseFactory {
 
 
             ) {
-                return new DefaultSqlScriptExecutor(new JdbcTemplate(connection, databaseType)
+                return new DefaultSqlScriptExecutor(new JdbcTemplate(connection, databaseType), configuration.isBatch(), configuration.getBatchSize()
 
 
 
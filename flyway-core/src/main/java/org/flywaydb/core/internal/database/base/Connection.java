@@ -15,6 +15,8 @@
  */
 package org.flywaydb.core.internal.database.base;
 
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.JdbcUtils;
@@ -22,9 +24,13 @@ import org.flywaydb.core.internal.jdbc.TransactionTemplate;
 
 import java.io.Closeable;
 import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 public abstract class Connection<D extends Database> implements Closeable {
+    private static final Log LOG = LogFactory.getLog(Connection.class);
+
     protected final D database;
     protected final JdbcTemplate jdbcTemplate;
     private final java.sql.Connection jdbcConnection;
@@ -39,6 +45,27 @@ public abstract class Connection<D extends Database> implements Closeable {
      */
     private final boolean originalAutoCommit;
 
+    /**
+     * Whether the connection is known to still be in its original state since it was last restored. This allows
+     * redundant resets to be skipped until the state is invalidated.
+     */
+    private boolean originalStateRestored;
+
+    /**
+     * The schema the connection was last switched to, or {@code null} if the current schema is not known.
+     */
+    private Schema currentSchema;
+
+    /**
+     * The names of the schemas that are known to exist.
+     */
+    private final Set<String> existingSchemas = new HashSet<>();
+
+    /**
+     * Whether an activity has been published for this connection since it was last cleared.
+     */
+    private boolean activityPublished;
+
     protected Connection(D database, java.sql.Connection connection) {
         this.database = database;
 
@@ -96,17 +123,72 @@ public abstract class Connection<D extends Database> implements Closeable {
      *
      * @param schema The new current schema for this connection.
      */
-    public void changeCurrentSchemaTo(Schema schema) {
+    public final void changeCurrentSchemaTo(Schema schema) {
+        if (schema.equals(currentSchema)) {
+            return;
+        }
         try {
-            if (!schema.exists()) {
-                return;
+            if (doChangeCurrentSchemaTo(schema)) {
+                currentSchema = schema;
             }
-            doChangeCurrentSchemaOrSearchPathTo(schema.getName());
         } catch (SQLException e) {
             throw new FlywaySqlException("Error setting current schema to " + schema, e);
         }
     }
 
+    /**
+     * Sets the current schema to this schema.
+     *
+     * @param schema The new current schema for this connection.
+     * @return {@code true} if the current schema is now known to be this schema, {@code false} if the schema doesn't
+     * exist (yet) and it has therefore been left unchanged.
+     * @throws SQLException when the current schema could not be set.
+     */
+    protected boolean doChangeCurrentSchemaTo(Schema schema) throws SQLException {
+        if (!exists(schema)) {
+            return false;
+        }
+        doChangeCurrentSchemaOrSearchPathTo(schema.getName());
+        return true;
+    }
+
+    /**
+     * Checks whether this schema exists. Once a schema has been found to exist, it is assumed to keep existing for the
+     * lifetime of this connection, saving a catalog query on every subsequent schema change.
+     *
+     * @param schema The schema.
+     * @return {@code true} if it does, {@code false} if not.
+     */
+    protected final boolean exists(Schema schema) {
+        if (existingSchemas.contains(schema.getName())) {
+            return true;
+        }
+        if (schema.exists()) {
+            existingSchemas.add(schema.getName());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Invalidates the known state of this connection. This must be called before executing any SQL outside of
+     * Flyway's control, such as migrations and callbacks, as it may change the state of the session. The next
+     * {@link #restoreOriginalState()} and {@link #changeCurrentSchemaTo(Schema)} then go to the database again.
+     */
+    public final void invalidateState() {
+        originalStateRestored = false;
+        currentSchema = null;
+    }
+
+    /**
+     * Invalidates the known state of this connection including the schemas known to exist. This must be called after
+     * schemas may have been dropped, such as by clean.
+     */
+    public final void invalidateSchemas() {
+        invalidateState();
+        existingSchemas.clear();
+    }
+
     /**
      * Sets the current schema to this schema.
      *
@@ -133,13 +215,45 @@ public abstract class Connection<D extends Database> implements Closeable {
         });
     }
 
+    /**
+     * Makes what this connection is currently used for visible to other sessions, so that Flyway instances waiting
+     * for the schema history lock can report on the progress of the instance holding it. Failures are logged, but
+     * never fatal, as this is purely informational.
+     *
+     * @param activity The description of the activity or {@code null} to clear it.
+     */
+    public final void publishActivity(String activity) {
+        if (activity == null && !activityPublished) {
+            return;
+        }
+        try {
+            doPublishActivity(activity);
+            activityPublished = activity != null;
+        } catch (SQLException e) {
+            LOG.debug("Unable to publish activity of connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Makes what this connection is currently used for visible to other sessions. This is a no-op for databases
+     * without a cheap way of doing so.
+     *
+     * @param activity The description of the activity or {@code null} to restore the original state.
+     * @throws SQLException when the activity could not be published.
+     */
+    protected void doPublishActivity(String activity) throws SQLException {
+    }
+
     public final JdbcTemplate getJdbcTemplate() {
         return jdbcTemplate;
     }
 
     @Override
     public final void close() {
+        // Don't rely on the known state here, as a failure may have rolled back any of the changes that were tracked
+        invalidateState();
         restoreOriginalState();
+        publishActivity(null);
         restoreOriginalSchema();
         restoreOriginalAutoCommit();
         JdbcUtils.closeConnection(jdbcConnection);
@@ -163,8 +277,15 @@ public abstract class Connection<D extends Database> implements Closeable {
      * Restores this connection to its original state.
      */
     public final void restoreOriginalState() {
+        if (originalStateRestored) {
+            return;
+        }
         try {
             doRestoreOriginalState();
+            originalStateRestored = true;
+            // Restoring the original state may also affect the current schema (SQL Server for example restores the
+            // original database)
+            currentSchema = null;
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to restore connection to its original state", e);
         }
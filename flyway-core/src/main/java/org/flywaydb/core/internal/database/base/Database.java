@@ -78,6 +78,12 @@ public abstract class Database<C extends Connection> implements Closeable {
 
 
 
+    /**
+     * Whether additional connections can work on this database in parallel to the main connection. {@code null} if
+     * not checked yet.
+     */
+    private Boolean parallelConnectionsSupported;
+
     /**
      * The major.minor version of the database.
      */
@@ -307,6 +313,51 @@ public abstract class Database<C extends Connection> implements Closeable {
         return jdbcMetaData;
     }
 
+    /**
+     * Opens an additional connection to this database, independent of the main and the migration connection.
+     *
+     * @return The new connection. It is the responsibility of the caller to close it.
+     */
+    public final C openConnection() {
+        return getConnection(jdbcConnectionFactory.openConnection());
+    }
+
+    /**
+     * Checks whether additional connections opened with {@link #openConnection()} reach this database and can work on
+     * it in parallel to the main connection. Commands configured to use several threads fall back to working one
+     * after the other on the main and the migration connection when they can't.
+     *
+     * @return {@code true} if they can, {@code false} if not.
+     */
+    public final boolean supportsParallelConnections() {
+        if (parallelConnectionsSupported == null) {
+            parallelConnectionsSupported = doSupportsParallelConnections();
+            if (!parallelConnectionsSupported) {
+                LOG.info("Unable to work on " + jdbcConnectionFactory.getJdbcUrl()
+                        + " with several connections in parallel. Falling back to a single thread.");
+            }
+        }
+        return parallelConnectionsSupported;
+    }
+
+    /**
+     * Checks whether additional connections reach this database and can work on it in parallel to the main
+     * connection. Database types with private in-memory databases, which only exist for the connection that created
+     * them, return {@code false} for those.
+     *
+     * @return {@code true} if they can, {@code false} if not.
+     */
+    protected boolean doSupportsParallelConnections() {
+        return true;
+    }
+
+    /**
+     * @return The Flyway configuration.
+     */
+    public final Configuration getConfiguration() {
+        return configuration;
+    }
+
     /**
      * @return The main connection, used to manipulate the schema history.
      */
@@ -331,6 +382,19 @@ public abstract class Database<C extends Connection> implements Closeable {
         return migrationConnection;
     }
 
+    /**
+     * Invalidates the known state of the main and the migration connection, including the schemas known to exist. This
+     * must be called after schemas may have been dropped, such as by clean.
+     */
+    public final void invalidateSchemas() {
+        if (mainConnection != null) {
+            mainConnection.invalidateSchemas();
+        }
+        if (migrationConnection != null && migrationConnection != mainConnection) {
+            migrationConnection.invalidateSchemas();
+        }
+    }
+
     /**
      * @return The major and minor version of the database.
      */
@@ -41,13 +41,17 @@ public class CockroachDBConnection extends Connection<CockroachDBDatabase> {
     }
 
     @Override
-    public void changeCurrentSchemaTo(Schema schema) {
+    protected boolean doChangeCurrentSchemaTo(Schema schema) {
         try {
             // Avoid unnecessary schema changes as this trips up CockroachDB
-            if (schema.getName().equals(originalSchemaNameOrSearchPath) || !schema.exists()) {
-                return;
+            if (schema.getName().equals(originalSchemaNameOrSearchPath)) {
+                return true;
+            }
+            if (!exists(schema)) {
+                return false;
             }
             doChangeCurrentSchemaOrSearchPathTo(schema.getName());
+            return true;
         } catch (SQLException e) {
             throw new FlywaySqlException("Error setting current database to " + schema, e);
         }
@@ -24,6 +24,7 @@ import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.regex.Pattern;
 
 /**
  * H2 database.
@@ -39,6 +40,11 @@ public class H2Database extends Database<H2Connection> {
      * A dummy script marker used in Oracle mode, where a marker row is inserted with no corresponding script.
      */
     private static final String DUMMY_SCRIPT_NAME = "<< history table creation script >>";
+    /**
+     * The URLs of unnamed in-memory databases, which are private to the connection that created them.
+     * Ex.: jdbc:h2:mem:;MODE=MySQL or jdbc:h2:tcp://localhost/mem:
+     */
+    private static final Pattern PRIVATE_IN_MEMORY_URL = Pattern.compile("jdbc:h2:((tcp|ssl)://[^/]*/)?mem:(;.*)?");
     /**
      * The compatibility modes supported by H2. See http://h2database.com/html/features.html#compatibility
      */
@@ -214,4 +220,9 @@ public class H2Database extends Database<H2Connection> {
         return false;
     }
 
+    @Override
+    protected boolean doSupportsParallelConnections() {
+        return !PRIVATE_IN_MEMORY_URL.matcher(jdbcConnectionFactory.getJdbcUrl()).matches();
+    }
+
 }
\ No newline at end of file
@@ -39,7 +39,8 @@ public class InformixConnection extends Connection<InformixDatabase> {
     }
 
     @Override
-    public void changeCurrentSchemaTo(Schema schema) {
+    protected boolean doChangeCurrentSchemaTo(Schema schema) {
         // Informix doesn't support schemas
+        return true;
     }
 }
\ No newline at end of file
@@ -158,6 +158,8 @@ public class MySQLConnection extends Connection<MySQLDatabase> {
         if (database.isPxcStrict()) {
             return super.lock(table, callable);
         }
-        return new MySQLNamedLockTemplate(jdbcTemplate, table.toString().hashCode()).execute(callable);
+        return new MySQLNamedLockTemplate(jdbcTemplate, table.toString().hashCode(),
+                database.getConfiguration().getLockWaitTimeout(),
+                database.getConfiguration().getHeartbeatInterval()).execute(callable);
     }
 }
\ No newline at end of file
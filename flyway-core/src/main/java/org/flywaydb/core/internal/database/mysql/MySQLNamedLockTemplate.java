@@ -15,19 +15,17 @@
  */
 package org.flywaydb.core.internal.database.mysql;
 
-import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
-import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.SessionLockTemplate;
 
 import java.sql.SQLException;
-import java.util.concurrent.Callable;
 
 /**
  * Spring-like template for executing with MySQL named locks.
  */
-public class MySQLNamedLockTemplate {
+public class MySQLNamedLockTemplate extends SessionLockTemplate {
     private static final Log LOG = LogFactory.getLog(MySQLNamedLockTemplate.class);
 
     /**
@@ -40,54 +38,36 @@ public class MySQLNamedLockTemplate {
     /**
      * Creates a new named lock template for this connection.
      *
-     * @param jdbcTemplate  The jdbcTemplate for the connection.
-     * @param discriminator A number to discriminate between locks.
+     * @param jdbcTemplate      The jdbcTemplate for the connection.
+     * @param discriminator     A number to discriminate between locks.
+     * @param lockWaitTimeout   The maximum number of seconds to wait for the lock. {@code 0} to wait indefinitely.
+     * @param heartbeatInterval The number of seconds between two reports while waiting. {@code 0} to disable them.
      */
-    MySQLNamedLockTemplate(JdbcTemplate jdbcTemplate, int discriminator) {
-        this.jdbcTemplate = jdbcTemplate;
-        lockName = "Flyway-" + discriminator;
+    MySQLNamedLockTemplate(JdbcTemplate jdbcTemplate, int discriminator, int lockWaitTimeout, int heartbeatInterval) {
+        this(jdbcTemplate, "Flyway-" + discriminator, lockWaitTimeout, heartbeatInterval);
     }
 
-    /**
-     * Executes this callback with a named lock.
-     *
-     * @param callable The callback to execute.
-     * @return The result of the callable code.
-     */
-    public <T> T execute(Callable<T> callable) {
-        try {
-            lock();
-            return callable.call();
-        } catch (SQLException e) {
-            throw new FlywaySqlException("Unable to acquire MySQL named lock: " + lockName, e);
-        } catch (Exception e) {
-            RuntimeException rethrow;
-            if (e instanceof RuntimeException) {
-                rethrow = (RuntimeException) e;
-            } else {
-                rethrow = new FlywayException(e);
-            }
-            throw rethrow;
-        } finally {
-            try {
-                jdbcTemplate.execute("SELECT RELEASE_LOCK('" + lockName + "')");
-            } catch (SQLException e) {
-                LOG.error("Unable to release MySQL named lock: " + lockName, e);
-            }
-        }
+    private MySQLNamedLockTemplate(JdbcTemplate jdbcTemplate, String lockName, int lockWaitTimeout,
+                                   int heartbeatInterval) {
+        super("MySQL named lock: " + lockName, lockWaitTimeout, heartbeatInterval);
+        this.jdbcTemplate = jdbcTemplate;
+        this.lockName = lockName;
     }
 
-    private void lock() throws SQLException {
-        while (!tryLock()) {
-            try {
-                Thread.sleep(100L);
-            } catch (InterruptedException e) {
-                throw new FlywayException("Interrupted while attempting to acquire MySQL named lock: " + lockName, e);
-            }
-        }
+    @Override
+    protected boolean tryLock(long timeoutMillis) throws SQLException {
+        // GET_LOCK waits on the server, but only has a resolution of whole seconds
+        long timeoutSeconds = timeoutMillis / 1000 + (timeoutMillis % 1000 == 0 ? 0 : 1);
+        return jdbcTemplate.queryForInt("SELECT GET_LOCK(?," + Math.min(timeoutSeconds, Integer.MAX_VALUE) + ")",
+                lockName) == 1;
     }
 
-    private boolean tryLock() throws SQLException {
-        return jdbcTemplate.queryForInt("SELECT GET_LOCK(?,10)", lockName) == 1;
+    @Override
+    protected void unlock() {
+        try {
+            jdbcTemplate.execute("SELECT RELEASE_LOCK('" + lockName + "')");
+        } catch (SQLException e) {
+            LOG.error("Unable to release MySQL named lock: " + lockName, e);
+        }
     }
-}
\ No newline at end of file
+}
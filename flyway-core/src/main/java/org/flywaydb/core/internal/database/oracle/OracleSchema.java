@@ -706,6 +706,11 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         AGENT_DESTINATION("DESTINATION"),
         UNIFIED_AUDIT_POLICY("UNIFIED AUDIT POLICY");
 
+        /**
+         * The maximum number of drop statements to send to the database in a single PL/SQL block.
+         */
+        private static final int DROP_STATEMENTS_PER_BLOCK = 500;
+
         /**
          * The name of the type as it mentioned in the Data Dictionary and the DROP statement.
          */
@@ -756,14 +761,32 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         }
 
         /**
-         * Drops all objects of this type in the specified schema.
+         * Drops all objects of this type in the specified schema. Instead of a round trip per object, the drop
+         * statements are sent in anonymous PL/SQL blocks of up to {@link #DROP_STATEMENTS_PER_BLOCK} statements each,
+         * which execute them one after the other and stop at the first failure.
          *
          * @throws SQLException if cleaning failed.
          */
         public void dropObjects(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-            for (String objectName : getObjectNames(jdbcTemplate, database, schema)) {
-                jdbcTemplate.execute(generateDropStatement(jdbcTemplate, database, schema, objectName));
-            }
+            List<String> objectNames = getObjectNames(jdbcTemplate, database, schema);
+            for (int start = 0; start < objectNames.size(); start += DROP_STATEMENTS_PER_BLOCK) {
+                List<String> chunk = objectNames.subList(start,
+                        Math.min(start + DROP_STATEMENTS_PER_BLOCK, objectNames.size()));
+
+                StringBuilder block = new StringBuilder("DECLARE\n  stmt VARCHAR2(32767);\nBEGIN\n");
+                for (String objectName : chunk) {
+                    String statement = generateDropStatement(jdbcTemplate, database, schema, objectName);
+                    block.append("  stmt := '").append(statement.replace("'", "''")).append("';\n")
+                            .append("  EXECUTE IMMEDIATE stmt;\n");
+                }
+                // Keep the failing statement in the error message, as it would have been without the block
+                block.append("EXCEPTION WHEN OTHERS THEN\n")
+                        .append("  RAISE_APPLICATION_ERROR(-20000, SUBSTR('Unable to execute ' || stmt || ': ' || SQLERRM, 1, 2000));\n")
+                        .append("END;");
+                jdbcTemplate.execute(block.toString());
+            }
+            LOG.debug("Dropped " + objectNames.size() + " objects of type " + this + " in "
+                    + (objectNames.size() + DROP_STATEMENTS_PER_BLOCK - 1) / DROP_STATEMENTS_PER_BLOCK + " round trips");
         }
 
         private void warnUnsupported(String schemaName, String typeDesc) {
@@ -63,13 +63,13 @@ public class OracleSqlScriptExecutor extends DefaultSqlScriptExecutor {
 
 
 
-    public OracleSqlScriptExecutor(JdbcTemplate jdbcTemplate
+    public OracleSqlScriptExecutor(JdbcTemplate jdbcTemplate, boolean batch, int batchSize
 
 
 
 
     ) {
-        super(jdbcTemplate
+        super(jdbcTemplate, batch, batchSize
 
 
 
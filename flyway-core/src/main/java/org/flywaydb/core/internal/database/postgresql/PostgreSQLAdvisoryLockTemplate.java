@@ -16,22 +16,22 @@
 package org.flywaydb.core.internal.database.postgresql;
 
 import org.flywaydb.core.api.FlywayException;
-import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
-import org.flywaydb.core.api.logging.Log;
-import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.jdbc.RowMapper;
+import org.flywaydb.core.internal.jdbc.SessionLockTemplate;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
-import java.util.concurrent.Callable;
 
 /**
  * Spring-like template for executing with PostgreSQL advisory locks.
  */
-public class PostgreSQLAdvisoryLockTemplate {
-    private static final Log LOG = LogFactory.getLog(PostgreSQLAdvisoryLockTemplate.class);
+public class PostgreSQLAdvisoryLockTemplate extends SessionLockTemplate {
+    /**
+     * The SQL state of the error raised when lock_timeout expires.
+     */
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
 
     private static final long LOCK_MAGIC_NUM =
             (0x46L << 40) // F
@@ -51,55 +51,71 @@ public class PostgreSQLAdvisoryLockTemplate {
     /**
      * Creates a new advisory lock template for this connection.
      *
-     * @param jdbcTemplate The jdbcTemplate for the connection.
-     * @param discriminator A number to discriminate between locks.
+     * @param jdbcTemplate      The jdbcTemplate for the connection.
+     * @param discriminator     A number to discriminate between locks.
+     * @param lockWaitTimeout   The maximum number of seconds to wait for the lock. {@code 0} to wait indefinitely.
+     * @param heartbeatInterval The number of seconds between two reports while waiting. {@code 0} to disable them.
      */
-    PostgreSQLAdvisoryLockTemplate(JdbcTemplate jdbcTemplate, int discriminator) {
+    PostgreSQLAdvisoryLockTemplate(JdbcTemplate jdbcTemplate, int discriminator, int lockWaitTimeout,
+                                   int heartbeatInterval) {
+        super("PostgreSQL advisory lock", lockWaitTimeout, heartbeatInterval);
         this.jdbcTemplate = jdbcTemplate;
         lockNum = LOCK_MAGIC_NUM + discriminator;
     }
 
-    /**
-     * Executes this callback with an advisory lock.
-     *
-     * @param callable The callback to execute.
-     * @return The result of the callable code.
-     */
-    public <T> T execute(Callable<T> callable) {
+    @Override
+    protected boolean tryLock(long timeoutMillis) throws SQLException {
+        // A failed statement would abort an ongoing transaction, so only block while in auto-commit mode
+        if (timeoutMillis == 0 || !jdbcTemplate.getConnection().getAutoCommit()) {
+            return tryLock();
+        }
+
+        String originalLockTimeout = jdbcTemplate.queryForString("SELECT current_setting('lock_timeout')");
+        jdbcTemplate.execute("SELECT set_config('lock_timeout', ?, false)",
+                String.valueOf(Math.min(timeoutMillis, Integer.MAX_VALUE)));
         try {
-            lock();
-            return callable.call();
+            jdbcTemplate.execute("SELECT pg_advisory_lock(" + lockNum + ")");
+            return true;
         } catch (SQLException e) {
-            throw new FlywaySqlException("Unable to acquire PostgreSQL advisory lock", e);
-        } catch (Exception e) {
-            RuntimeException rethrow;
-            if (e instanceof RuntimeException) {
-                rethrow = (RuntimeException) e;
-            } else {
-                rethrow = new FlywayException(e);
+            if (LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                return false;
             }
-            throw rethrow;
+            throw e;
         } finally {
-            try {
-                jdbcTemplate.execute("SELECT pg_advisory_unlock(" + lockNum + ")");
-            } catch (SQLException e) {
-                throw new FlywayException("Unable to release PostgreSQL advisory lock", e);
-            }
+            jdbcTemplate.execute("SELECT set_config('lock_timeout', ?, false)", originalLockTimeout);
         }
     }
 
-    private void lock() throws SQLException {
-        int retries = 0;
-        while (!tryLock()) {
-            try {
-                Thread.sleep(100L);
-            } catch (InterruptedException e) {
-                throw new FlywayException("Interrupted while attempting to acquire PostgreSQL advisory lock", e);
-            }
+    @Override
+    protected void unlock() {
+        try {
+            jdbcTemplate.execute("SELECT pg_advisory_unlock(" + lockNum + ")");
+        } catch (SQLException e) {
+            throw new FlywayException("Unable to release PostgreSQL advisory lock", e);
+        }
+    }
 
-            if (++retries >= 50) {
-                throw new FlywayException("Number of retries exceeded while attempting to acquire PostgreSQL advisory lock");
+    @Override
+    protected String describeHolder() {
+        try {
+            // A failed query would abort an ongoing transaction
+            if (!jdbcTemplate.getConnection().getAutoCommit()) {
+                return null;
             }
+            // Look up the session holding the lock and the migration it published, if any. A bigint advisory lock
+            // key shows up in pg_locks split into its high (classid) and low (objid) 32 bits.
+            return jdbcTemplate.queryForString("SELECT string_agg(CASE WHEN a.application_name LIKE ?"
+                            + " THEN substr(a.application_name, " + (PostgreSQLConnection.ACTIVITY_PREFIX.length() + 1) + ")"
+                            + " ELSE 'pid ' || a.pid END || ' (' || coalesce(a.state, 'unknown') || ' for '"
+                            + " || date_trunc('second', now() - a.state_change) || ')', ', ')"
+                            + " FROM pg_locks l JOIN pg_stat_activity a ON a.pid = l.pid"
+                            + " WHERE l.locktype = 'advisory' AND l.granted AND l.objsubid = 1"
+                            + " AND l.database = (SELECT oid FROM pg_database WHERE datname = current_database())"
+                            + " AND l.classid::bigint = " + (lockNum >>> 32)
+                            + " AND l.objid::bigint = " + (lockNum & 0xFFFFFFFFL),
+                    PostgreSQLConnection.ACTIVITY_PREFIX + "%");
+        } catch (SQLException e) {
+            return null;
         }
     }
 
@@ -29,8 +29,18 @@ import java.util.concurrent.Callable;
  * PostgreSQL connection.
  */
 public class PostgreSQLConnection extends Connection<PostgreSQLDatabase> {
+    /**
+     * The prefix of the application name of connections on which Flyway published its current activity.
+     */
+    static final String ACTIVITY_PREFIX = "Flyway: ";
+
     private final String originalRole;
 
+    /**
+     * The application name of the connection before the first activity was published, or {@code null} if none is.
+     */
+    private String originalApplicationName;
+
     PostgreSQLConnection(PostgreSQLDatabase database, java.sql.Connection connection) {
         super(database, connection);
 
@@ -47,6 +57,22 @@ public class PostgreSQLConnection extends Connection<PostgreSQLDatabase> {
         jdbcTemplate.execute("SET ROLE '" + originalRole + "'");
     }
 
+    @Override
+    protected void doPublishActivity(String activity) throws SQLException {
+        if (activity == null) {
+            if (originalApplicationName != null) {
+                jdbcTemplate.execute("SELECT set_config('application_name', ?, false)", originalApplicationName);
+                originalApplicationName = null;
+            }
+            return;
+        }
+        if (originalApplicationName == null) {
+            originalApplicationName = jdbcTemplate.queryForString("SELECT current_setting('application_name')");
+        }
+        // Shows up in pg_stat_activity, where the server truncates it to 63 bytes
+        jdbcTemplate.execute("SELECT set_config('application_name', ?, false)", ACTIVITY_PREFIX + activity);
+    }
+
     @Override
     public Schema doGetCurrentSchema() throws SQLException {
         String currentSchema = jdbcTemplate.queryForString("SELECT current_schema");
@@ -63,20 +89,20 @@ public class PostgreSQLConnection extends Connection<PostgreSQLDatabase> {
     }
 
     @Override
-    public void changeCurrentSchemaTo(Schema schema) {
-        try {
-            if (schema.getName().equals(originalSchemaNameOrSearchPath) || originalSchemaNameOrSearchPath.startsWith(schema.getName() + ",") || !schema.exists()) {
-                return;
-            }
+    protected boolean doChangeCurrentSchemaTo(Schema schema) throws SQLException {
+        if (schema.getName().equals(originalSchemaNameOrSearchPath) || originalSchemaNameOrSearchPath.startsWith(schema.getName() + ",")) {
+            return true;
+        }
+        if (!exists(schema)) {
+            return false;
+        }
 
-            if (StringUtils.hasText(originalSchemaNameOrSearchPath)) {
-                doChangeCurrentSchemaOrSearchPathTo(schema.toString() + "," + originalSchemaNameOrSearchPath);
-            } else {
-                doChangeCurrentSchemaOrSearchPathTo(schema.toString());
-            }
-        } catch (SQLException e) {
-            throw new FlywaySqlException("Error setting current schema to " + schema, e);
+        if (StringUtils.hasText(originalSchemaNameOrSearchPath)) {
+            doChangeCurrentSchemaOrSearchPathTo(schema.toString() + "," + originalSchemaNameOrSearchPath);
+        } else {
+            doChangeCurrentSchemaOrSearchPathTo(schema.toString());
         }
+        return true;
     }
 
     @Override
@@ -91,6 +117,8 @@ public class PostgreSQLConnection extends Connection<PostgreSQLDatabase> {
 
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
-        return new PostgreSQLAdvisoryLockTemplate(jdbcTemplate, table.toString().hashCode()).execute(callable);
+        return new PostgreSQLAdvisoryLockTemplate(jdbcTemplate, table.toString().hashCode(),
+                database.getConfiguration().getLockWaitTimeout(),
+                database.getConfiguration().getHeartbeatInterval()).execute(callable);
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.Result;
 import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.parser.StatementType;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutor;
@@ -50,7 +51,7 @@ public class PostgreSQLCopyParsedStatement extends ParsedSqlStatement {
      * Creates a new PostgreSQL COPY ... FROM STDIN statement.
      */
     public PostgreSQLCopyParsedStatement(int pos, int line, int col, String sql, String copyData) {
-        super(pos, line, col, sql, COPY_DELIMITER, true
+        super(pos, line, col, sql, COPY_DELIMITER, true, StatementType.GENERIC
 
 
 
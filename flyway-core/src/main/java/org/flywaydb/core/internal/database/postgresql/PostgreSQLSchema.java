@@ -82,43 +82,45 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
 
 
 
-            for (String statement : generateDropStatementsForMaterializedViews()) {
-                jdbcTemplate.execute(statement);
-            }
+            executeBatch(generateDropStatementsForMaterializedViews());
 
 
 
 
-        for (String statement : generateDropStatementsForViews()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeBatch(generateDropStatementsForViews());
 
-        for (Table table : allTables()) {
-            table.drop();
+        List<String> tableStatements = new ArrayList<>();
+        for (PostgreSQLTable table : doAllTables()) {
+            tableStatements.add(table.getDropStatement());
         }
+        executeBatch(tableStatements);
 
-        for (String statement : generateDropStatementsForBaseTypes(true)) {
-            jdbcTemplate.execute(statement);
-        }
+        executeBatch(generateDropStatementsForBaseTypes(true));
 
-        for (String statement : generateDropStatementsForRoutines()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeBatch(generateDropStatementsForRoutines());
 
-        for (String statement : generateDropStatementsForEnums()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeBatch(generateDropStatementsForEnums());
 
-        for (String statement : generateDropStatementsForDomains()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeBatch(generateDropStatementsForDomains());
 
-        for (String statement : generateDropStatementsForSequences()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeBatch(generateDropStatementsForSequences());
 
-        for (String statement : generateDropStatementsForBaseTypes(false)) {
-            jdbcTemplate.execute(statement);
+        executeBatch(generateDropStatementsForBaseTypes(false));
+    }
+
+    /**
+     * Executes these drop statements as a single batch, saving a round trip per statement.
+     *
+     * @param statements The statements to execute.
+     * @throws SQLException when any of the statements failed.
+     */
+    private void executeBatch(List<String> statements) throws SQLException {
+        if (statements.isEmpty()) {
+            return;
+        }
+        SQLException exception = jdbcTemplate.executeBatch(statements).getException();
+        if (exception != null) {
+            throw exception;
         }
     }
 
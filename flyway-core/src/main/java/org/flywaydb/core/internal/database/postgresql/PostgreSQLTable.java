@@ -38,7 +38,14 @@ public class PostgreSQLTable extends Table<PostgreSQLDatabase, PostgreSQLSchema>
 
     @Override
     protected void doDrop() throws SQLException {
-        jdbcTemplate.execute("DROP TABLE " + database.quote(schema.getName(), name) + " CASCADE");
+        jdbcTemplate.execute(getDropStatement());
+    }
+
+    /**
+     * @return The statement for dropping this table.
+     */
+    String getDropStatement() {
+        return "DROP TABLE " + database.quote(schema.getName(), name) + " CASCADE";
     }
 
     @Override
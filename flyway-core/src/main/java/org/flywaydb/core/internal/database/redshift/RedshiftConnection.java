@@ -18,7 +18,6 @@ package org.flywaydb.core.internal.database.redshift;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.database.base.Connection;
 import org.flywaydb.core.internal.database.base.Schema;
-import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.sql.SQLException;
@@ -37,20 +36,20 @@ public class RedshiftConnection extends Connection<RedshiftDatabase> {
     }
 
     @Override
-    public void changeCurrentSchemaTo(Schema schema) {
-        try {
-            if (schema.getName().equals(originalSchemaNameOrSearchPath) || originalSchemaNameOrSearchPath.startsWith(schema.getName() + ",") || !schema.exists()) {
-                return;
-            }
+    protected boolean doChangeCurrentSchemaTo(Schema schema) throws SQLException {
+        if (schema.getName().equals(originalSchemaNameOrSearchPath) || originalSchemaNameOrSearchPath.startsWith(schema.getName() + ",")) {
+            return true;
+        }
+        if (!exists(schema)) {
+            return false;
+        }
 
-            if (StringUtils.hasText(originalSchemaNameOrSearchPath) && !"unset".equals(originalSchemaNameOrSearchPath)) {
-                doChangeCurrentSchemaOrSearchPathTo(schema.toString() + "," + originalSchemaNameOrSearchPath);
-            } else {
-                doChangeCurrentSchemaOrSearchPathTo(schema.toString());
-            }
-        } catch (SQLException e) {
-            throw new FlywaySqlException("Error setting current schema to " + schema, e);
+        if (StringUtils.hasText(originalSchemaNameOrSearchPath) && !"unset".equals(originalSchemaNameOrSearchPath)) {
+            doChangeCurrentSchemaOrSearchPathTo(schema.toString() + "," + originalSchemaNameOrSearchPath);
+        } else {
+            doChangeCurrentSchemaOrSearchPathTo(schema.toString());
         }
+        return true;
     }
 
     @Override
@@ -124,4 +124,10 @@ public class SQLiteDatabase extends Database<SQLiteConnection> {
     public boolean useSingleConnection() {
         return true;
     }
+
+    @Override
+    protected boolean doSupportsParallelConnections() {
+        // SQLite only allows a single writer at a time and in-memory databases are private to their connection
+        return false;
+    }
 }
\ No newline at end of file
@@ -20,8 +20,11 @@ import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.JdbcUtils;
 
+import java.sql.CallableStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.concurrent.Callable;
 
 /**
@@ -35,16 +38,24 @@ public class SQLServerApplicationLockTemplate {
     private final String databaseName;
     private final String lockName;
 
+    /**
+     * The maximum number of seconds to wait for the lock. {@code 0} to wait indefinitely.
+     */
+    private final int lockWaitTimeout;
+
     /**
      * Creates a new application lock template for this connection.
      *  @param connection The connection reference.
-     * @param jdbcTemplate  The jdbcTemplate for the connection.
-     * @param discriminator A number to discriminate between locks.
+     * @param jdbcTemplate    The jdbcTemplate for the connection.
+     * @param discriminator   A number to discriminate between locks.
+     * @param lockWaitTimeout The maximum number of seconds to wait for the lock. {@code 0} to wait indefinitely.
      */
-    SQLServerApplicationLockTemplate(SQLServerConnection connection, JdbcTemplate jdbcTemplate, String databaseName, int discriminator) {
+    SQLServerApplicationLockTemplate(SQLServerConnection connection, JdbcTemplate jdbcTemplate, String databaseName,
+                                     int discriminator, int lockWaitTimeout) {
         this.connection = connection;
         this.jdbcTemplate = jdbcTemplate;
         this.databaseName = databaseName;
+        this.lockWaitTimeout = lockWaitTimeout;
         lockName = "Flyway-" + discriminator;
     }
 
@@ -55,10 +66,11 @@ public class SQLServerApplicationLockTemplate {
      * @return The result of the callable code.
      */
     public <T> T execute(Callable<T> callable) {
+        boolean locked = false;
         try {
             connection.setCurrentDatabase(databaseName);
-            jdbcTemplate.execute("EXEC sp_getapplock @Resource = ?, @LockTimeout='3600000'," +
-                    " @LockMode = 'Exclusive', @LockOwner = 'Session'", lockName);
+            getAppLock();
+            locked = true;
             return callable.call();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to acquire SQL Server application lock", e);
@@ -71,12 +83,34 @@ public class SQLServerApplicationLockTemplate {
             }
             throw rethrow;
         } finally {
-            try {
-                connection.setCurrentDatabase(databaseName);
-                jdbcTemplate.execute("EXEC sp_releaseapplock @Resource = ?, @LockOwner = 'Session'", lockName);
-            } catch (SQLException e) {
-                LOG.error("Unable to release SQL Server application lock", e);
+            if (locked) {
+                try {
+                    connection.setCurrentDatabase(databaseName);
+                    jdbcTemplate.execute("EXEC sp_releaseapplock @Resource = ?, @LockOwner = 'Session'", lockName);
+                } catch (SQLException e) {
+                    LOG.error("Unable to release SQL Server application lock", e);
+                }
             }
         }
     }
+
+    private void getAppLock() throws SQLException {
+        // sp_getapplock reports a timeout through its return code instead of raising an error
+        CallableStatement statement = jdbcTemplate.getConnection().prepareCall(
+                "{? = call sp_getapplock(?, 'Exclusive', 'Session', ?)}");
+        try {
+            statement.registerOutParameter(1, Types.INTEGER);
+            statement.setString(2, lockName);
+            // A lock timeout of -1 makes sp_getapplock wait indefinitely
+            statement.setInt(3, lockWaitTimeout == 0 ? -1 : (int) Math.min(lockWaitTimeout * 1000L, Integer.MAX_VALUE));
+            statement.execute();
+            int result = statement.getInt(1);
+            if (result < 0) {
+                throw new FlywayException("Unable to acquire SQL Server application lock within " + lockWaitTimeout
+                        + " seconds (sp_getapplock returned " + result + "). It is still held by another Flyway instance.");
+            }
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+    }
 }
\ No newline at end of file
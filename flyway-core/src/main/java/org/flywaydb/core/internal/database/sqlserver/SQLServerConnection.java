@@ -93,7 +93,8 @@ public class SQLServerConnection extends Connection<SQLServerDatabase> {
 
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
-        return new SQLServerApplicationLockTemplate(this, jdbcTemplate, originalDatabaseName, table.toString().hashCode()).execute(callable);
+        return new SQLServerApplicationLockTemplate(this, jdbcTemplate, originalDatabaseName, table.toString().hashCode(),
+                database.getConfiguration().getLockWaitTimeout()).execute(callable);
     }
 
     public Boolean isAzureConnection() { return azure; }
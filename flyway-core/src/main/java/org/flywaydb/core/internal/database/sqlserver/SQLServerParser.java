@@ -83,6 +83,13 @@ public class SQLServerParser extends Parser {
         return null;
     }
 
+    @Override
+    protected StatementType detectStatementType(String simplifiedStatement) {
+        // A statement is a whole GO block, which may contain any number of statements of any kind. It is therefore
+        // never sent as part of a batch, whatever its first keyword.
+        return null;
+    }
+
     @Override
     protected int getTransactionalDetectionCutoff() {
         return Integer.MAX_VALUE;
@@ -20,6 +20,7 @@ import org.flywaydb.core.internal.parser.ParserContext;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.PeekingReader;
+import org.flywaydb.core.internal.parser.StatementType;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 
 import java.io.IOException;
@@ -46,4 +47,11 @@ public class SybaseASEParser extends Parser {
         // #2414: Ignore delimiter as GO (unlike ;) can be part of a regular keyword
         return "" + (char) reader.read() + reader.readKeywordPart(null);
     }
+
+    @Override
+    protected StatementType detectStatementType(String simplifiedStatement) {
+        // A statement is a whole GO block, which may contain any number of statements of any kind. It is therefore
+        // never sent as part of a batch, whatever its first keyword.
+        return null;
+    }
 }
\ No newline at end of file
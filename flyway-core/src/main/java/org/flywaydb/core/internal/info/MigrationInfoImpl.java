@@ -52,6 +52,11 @@ public class MigrationInfoImpl implements MigrationInfo {
      */
     private final boolean outOfOrder;
 
+    /**
+     * The state of this migration, or {@code null} if it hasn't been computed yet.
+     */
+    private MigrationState state;
+
 
 
 
@@ -141,6 +146,14 @@ public class MigrationInfoImpl implements MigrationInfo {
 
     @Override
     public MigrationState getState() {
+        // The context no longer changes once the infos have been created, so the state only needs to be derived once
+        if (state == null) {
+            state = computeState();
+        }
+        return state;
+    }
+
+    private MigrationState computeState() {
 
 
 
@@ -90,6 +90,22 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      */
     private List<MigrationInfoImpl> migrationInfos;
 
+    /**
+     * The migration infos calculated at the last refresh in each of the categories that can be queried, in the same
+     * order as {@link #migrationInfos}.
+     */
+    private MigrationInfoImpl[] pendingMigrations;
+    private MigrationInfoImpl[] appliedMigrations;
+    private MigrationInfo[] resolvedMigrations;
+    private MigrationInfo[] failedMigrations;
+    private MigrationInfo[] futureMigrations;
+    private MigrationInfo[] outOfOrderMigrations;
+
+    /**
+     * The current migration as of the last refresh.
+     */
+    private MigrationInfo current;
+
     /**
      * Creates a new MigrationInfoServiceImpl.
      *
@@ -260,6 +276,55 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
 
         Collections.sort(migrationInfos1);
         migrationInfos = migrationInfos1;
+        index();
+        current = findCurrent();
+    }
+
+    /**
+     * Sorts the migration infos calculated at the last refresh into the categories that can be queried, so that each
+     * query only costs as much as the number of migrations it returns.
+     */
+    private void index() {
+        List<MigrationInfoImpl> pending = new ArrayList<>();
+        List<MigrationInfoImpl> applied = new ArrayList<>();
+        List<MigrationInfo> resolved = new ArrayList<>();
+        List<MigrationInfo> failed = new ArrayList<>();
+        List<MigrationInfo> future = new ArrayList<>();
+        List<MigrationInfo> outOfOrder = new ArrayList<>();
+        for (MigrationInfoImpl migrationInfo : migrationInfos) {
+            MigrationState state = migrationInfo.getState();
+            if (MigrationState.PENDING == state) {
+                pending.add(migrationInfo);
+            }
+            if (state.isApplied()) {
+                applied.add(migrationInfo);
+            }
+            if (state.isResolved()) {
+                resolved.add(migrationInfo);
+            }
+            if (state.isFailed()) {
+                failed.add(migrationInfo);
+            }
+            if (((state == MigrationState.FUTURE_SUCCESS)
+                    || (state == MigrationState.FUTURE_FAILED))
+
+
+
+
+            ) {
+                future.add(migrationInfo);
+            }
+            if (state == MigrationState.OUT_OF_ORDER) {
+                outOfOrder.add(migrationInfo);
+            }
+        }
+
+        pendingMigrations = pending.toArray(new MigrationInfoImpl[0]);
+        appliedMigrations = applied.toArray(new MigrationInfoImpl[0]);
+        resolvedMigrations = resolved.toArray(new MigrationInfo[0]);
+        failedMigrations = failed.toArray(new MigrationInfo[0]);
+        futureMigrations = future.toArray(new MigrationInfo[0]);
+        outOfOrderMigrations = outOfOrder.toArray(new MigrationInfo[0]);
     }
 
 
@@ -293,8 +358,17 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
 
     @Override
     public MigrationInfo current() {
+        return current;
+    }
+
+    /**
+     * Finds the current migration among the applied ones.
+     *
+     * @return The current migration or {@code null} if none has been applied yet.
+     */
+    private MigrationInfo findCurrent() {
         MigrationInfo current = null;
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
+        for (MigrationInfoImpl migrationInfo : appliedMigrations) {
             if (migrationInfo.getState().isApplied()
 
 
@@ -310,8 +384,8 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
         }
 
         // If no versioned migration has been applied so far, fall back to the latest repeatable one
-        for (int i = migrationInfos.size() - 1; i >= 0; i--) {
-            MigrationInfoImpl migrationInfo = migrationInfos.get(i);
+        for (int i = appliedMigrations.length - 1; i >= 0; i--) {
+            MigrationInfoImpl migrationInfo = appliedMigrations[i];
             if (migrationInfo.getState().isApplied()
 
 
@@ -327,26 +401,12 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
 
     @Override
     public MigrationInfoImpl[] pending() {
-        List<MigrationInfoImpl> pendingMigrations = new ArrayList<>();
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
-            if (MigrationState.PENDING == migrationInfo.getState()) {
-                pendingMigrations.add(migrationInfo);
-            }
-        }
-
-        return pendingMigrations.toArray(new MigrationInfoImpl[0]);
+        return pendingMigrations.clone();
     }
 
     @Override
     public MigrationInfoImpl[] applied() {
-        List<MigrationInfoImpl> appliedMigrations = new ArrayList<>();
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isApplied()) {
-                appliedMigrations.add(migrationInfo);
-            }
-        }
-
-        return appliedMigrations.toArray(new MigrationInfoImpl[0]);
+        return appliedMigrations.clone();
     }
 
     /**
@@ -355,14 +415,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The resolved migrations. An empty array if none.
      */
     public MigrationInfo[] resolved() {
-        List<MigrationInfo> resolvedMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isResolved()) {
-                resolvedMigrations.add(migrationInfo);
-            }
-        }
-
-        return resolvedMigrations.toArray(new MigrationInfo[0]);
+        return resolvedMigrations.clone();
     }
 
     /**
@@ -371,14 +424,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The failed migrations. An empty array if none.
      */
     public MigrationInfo[] failed() {
-        List<MigrationInfo> failedMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isFailed()) {
-                failedMigrations.add(migrationInfo);
-            }
-        }
-
-        return failedMigrations.toArray(new MigrationInfo[0]);
+        return failedMigrations.clone();
     }
 
     /**
@@ -387,20 +433,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The future migrations. An empty array if none.
      */
     public MigrationInfo[] future() {
-        List<MigrationInfo> futureMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (((migrationInfo.getState() == MigrationState.FUTURE_SUCCESS)
-                    || (migrationInfo.getState() == MigrationState.FUTURE_FAILED))
-
-
-
-
-            ) {
-                futureMigrations.add(migrationInfo);
-            }
-        }
-
-        return futureMigrations.toArray(new MigrationInfo[0]);
+        return futureMigrations.clone();
     }
 
     /**
@@ -409,14 +442,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The out of order migrations. An empty array if none.
      */
     public MigrationInfo[] outOfOrder() {
-        List<MigrationInfo> outOfOrderMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState() == MigrationState.OUT_OF_ORDER) {
-                outOfOrderMigrations.add(migrationInfo);
-            }
-        }
-
-        return outOfOrderMigrations.toArray(new MigrationInfo[0]);
+        return outOfOrderMigrations.clone();
     }
 
 
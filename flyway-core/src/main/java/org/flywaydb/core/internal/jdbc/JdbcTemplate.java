@@ -254,6 +254,48 @@ public class JdbcTemplate {
         return results;
     }
 
+    /**
+     * Executes these sql statements as a single batch using an ordinary Statement.
+     *
+     * @param sqls The statements to execute.
+     * @return the results of the execution, containing one update count per successfully executed statement.
+     */
+    public Results executeBatch(List<String> sqls) {
+        Results results = new Results();
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            statement.setEscapeProcessing(false);
+            for (String sql : sqls) {
+                statement.addBatch(sql);
+            }
+            int[] updateCounts;
+            try {
+                updateCounts = statement.executeBatch();
+            } finally {
+                extractWarnings(results, statement);
+            }
+            extractUpdateCounts(results, updateCounts);
+        } catch (final BatchUpdateException e) {
+            extractUpdateCounts(results, e.getUpdateCounts());
+            extractErrors(results, e);
+        } catch (final SQLException e) {
+            extractErrors(results, e);
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+        return results;
+    }
+
+    private void extractUpdateCounts(Results results, int[] updateCounts) {
+        if (updateCounts == null) {
+            return;
+        }
+        for (int updateCount : updateCounts) {
+            results.addResult(new Result(updateCount, null, null));
+        }
+    }
+
     private void extractWarnings(Results results, Statement statement) throws SQLException {
         SQLWarning warning = statement.getWarnings();
         while (warning != null) {
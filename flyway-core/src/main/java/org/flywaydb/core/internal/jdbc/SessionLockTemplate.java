@@ -0,0 +1,182 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.jdbc;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.util.TimeFormat;
+
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring-like template for executing with a session-level lock which is held until explicitly released. Subclasses
+ * provide the database-specific way of acquiring and releasing the lock. Where the database can wait for the lock
+ * itself, blocking attempts are made, each one lasting at most until the next progress report is due. Otherwise
+ * attempts are retried with a randomized exponential backoff, so that many instances starting at the same time don't
+ * all poll the database in lockstep.
+ */
+public abstract class SessionLockTemplate {
+    private static final Log LOG = LogFactory.getLog(SessionLockTemplate.class);
+
+    /**
+     * The initial delay in milliseconds between two attempts to acquire the lock.
+     */
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+
+    /**
+     * The maximum delay in milliseconds between two attempts to acquire the lock.
+     */
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    /**
+     * The description of the lock for log and error messages.
+     */
+    private final String lockDescription;
+
+    /**
+     * The maximum number of seconds to wait for the lock. {@code 0} to wait indefinitely.
+     */
+    private final int lockWaitTimeout;
+
+    /**
+     * The number of seconds between two reports while waiting for the lock. {@code 0} if disabled.
+     */
+    private final int heartbeatInterval;
+
+    /**
+     * Creates a new session lock template.
+     *
+     * @param lockDescription   The description of the lock for log and error messages.
+     * @param lockWaitTimeout   The maximum number of seconds to wait for the lock. {@code 0} to wait indefinitely.
+     * @param heartbeatInterval The number of seconds between two reports while waiting. {@code 0} to disable them.
+     */
+    protected SessionLockTemplate(String lockDescription, int lockWaitTimeout, int heartbeatInterval) {
+        this.lockDescription = lockDescription;
+        this.lockWaitTimeout = lockWaitTimeout;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Executes this callback with the lock held.
+     *
+     * @param callable The callback to execute.
+     * @return The result of the callable code.
+     */
+    public <T> T execute(Callable<T> callable) {
+        boolean locked = false;
+        try {
+            lock();
+            locked = true;
+            return callable.call();
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to acquire " + lockDescription, e);
+        } catch (Exception e) {
+            RuntimeException rethrow;
+            if (e instanceof RuntimeException) {
+                rethrow = (RuntimeException) e;
+            } else {
+                rethrow = new FlywayException(e);
+            }
+            throw rethrow;
+        } finally {
+            if (locked) {
+                unlock();
+            }
+        }
+    }
+
+    private void lock() throws SQLException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(lockWaitTimeout);
+        long heartbeatMillis = heartbeatInterval > 0 ? TimeUnit.SECONDS.toMillis(heartbeatInterval) : Long.MAX_VALUE;
+        long nextReport = start;
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            // Try without waiting first, so the holder is reported on right away when the lock is taken
+            if (tryLock(attempts == 1 ? 0 : Math.min(remainingMillis(deadline), heartbeatMillis))) {
+                break;
+            }
+
+            long remaining = remainingMillis(deadline);
+            if (remaining <= 0) {
+                throw new FlywayException("Unable to acquire " + lockDescription + " within " + lockWaitTimeout
+                        + " seconds (" + attempts + " attempts). It is still held by another Flyway instance.");
+            }
+            long now = System.nanoTime();
+            if (attempts == 1 || (heartbeatInterval > 0 && now - nextReport >= 0)) {
+                String holder = describeHolder();
+                LOG.info((attempts == 1 ? "Waiting for " : "Still waiting after "
+                        + TimeFormat.format(TimeUnit.NANOSECONDS.toMillis(now - start)) + " for ")
+                        + lockDescription + " held by another Flyway instance"
+                        + (holder == null ? "" : " (" + holder + ")") + " ...");
+                nextReport = now + TimeUnit.SECONDS.toNanos(heartbeatInterval);
+            }
+            try {
+                // Sleep for at least half the backoff, so instances spread out without starving each other
+                Thread.sleep(Math.min(remaining, backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1)));
+            } catch (InterruptedException e) {
+                throw new FlywayException("Interrupted while attempting to acquire " + lockDescription, e);
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+
+        long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (attempts > 1) {
+            LOG.info("Acquired " + lockDescription + " after waiting " + waited + " ms (" + attempts + " attempts)");
+        } else {
+            LOG.debug("Acquired " + lockDescription + " in " + waited + " ms");
+        }
+    }
+
+    private long remainingMillis(long deadline) {
+        if (lockWaitTimeout == 0) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    /**
+     * Attempts to acquire the lock. Databases which can wait for the lock themselves should do so for up to this
+     * number of milliseconds. All others should make a single attempt and return immediately.
+     *
+     * @param timeoutMillis The maximum number of milliseconds to wait for the lock. {@code 0} to not wait at all.
+     * @return {@code true} if the lock was acquired, {@code false} if it is still held by someone else.
+     * @throws SQLException when the attempt failed.
+     */
+    protected abstract boolean tryLock(long timeoutMillis) throws SQLException;
+
+    /**
+     * Releases the lock. Failures must be handled by the implementation.
+     */
+    protected abstract void unlock();
+
+    /**
+     * Describes what the Flyway instance holding the lock is currently doing, for databases where this can be found
+     * out. Failures must be handled by the implementation.
+     *
+     * @return The description or {@code null} if unknown.
+     */
+    protected String describeHolder() {
+        return null;
+    }
+}
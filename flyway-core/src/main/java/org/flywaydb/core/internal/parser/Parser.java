@@ -41,6 +41,18 @@ import java.util.regex.Pattern;
 public abstract class Parser {
     private static final Log LOG = LogFactory.getLog(Parser.class);
 
+    /**
+     * The keywords which, as the first keyword of a statement, identify it as a batchable DML statement.
+     */
+    private static final Set<String> DML_KEYWORDS =
+            new HashSet<>(Arrays.asList("INSERT", "UPDATE", "DELETE", "MERGE", "UPSERT"));
+
+    /**
+     * The keywords which introduce a clause through which a DML statement returns results, making it unfit for
+     * batching.
+     */
+    private static final Set<String> RESULT_CLAUSE_KEYWORDS = Collections.singleton("RETURNING");
+
 
 
 
@@ -100,11 +112,10 @@ public abstract class Parser {
         LOG.debug("Parsing " + resource.getFilename() + " ...");
         PeekingReader peekingReader =
                 new PeekingReader(
-                        new RecordingReader(recorder,
-                                new PositionTrackingReader(tracker,
-                                        replacePlaceholders(
-                                                new BomStrippingReader(
-                                                        new BufferedReader(resource.read(), 4096))))));
+                        replacePlaceholders(
+                                new BomStrippingReader(
+                                        new BufferedReader(resource.read(), 4096))),
+                        recorder, tracker);
 
         return new ParserSqlStatementIterator(peekingReader, resource, recorder, tracker, context);
     }
@@ -117,22 +128,40 @@ public abstract class Parser {
      */
     protected Reader replacePlaceholders(Reader r) {
         if (configuration.isPlaceholderReplacement()) {
-            Map<String, String> placeholders = new HashMap<>();
-            Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-            Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
-
-            placeholders.putAll(configurationPlaceholders);
-            placeholders.putAll(parsingContextPlaceholders);
-
             return new PlaceholderReplacingReader(
                     configuration.getPlaceholderPrefix(),
                     configuration.getPlaceholderSuffix(),
-                    placeholders,
+                    getPlaceholders(),
                     r);
         }
         return r;
     }
 
+    private Map<String, String> getPlaceholders() {
+        Map<String, String> placeholders = new HashMap<>();
+        Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
+        Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
+
+        placeholders.putAll(configurationPlaceholders);
+        placeholders.putAll(parsingContextPlaceholders);
+        return placeholders;
+    }
+
+    /**
+     * Retrieves the signature of this parser. Parsing the same resource with parsers of the same signature always
+     * yields the same statements.
+     *
+     * @return The signature, made up of the type of this parser and its placeholder settings.
+     */
+    public String getSignature() {
+        String signature = getClass().getName();
+        if (configuration.isPlaceholderReplacement()) {
+            signature += ":" + Integer.toHexString(Objects.hash(
+                    configuration.getPlaceholderPrefix(), configuration.getPlaceholderSuffix(), getPlaceholders()));
+        }
+        return signature;
+    }
+
     private SqlStatement getNextStatement(Resource resource, PeekingReader reader, Recorder recorder, PositionTracker tracker, ParserContext context) {
         resetDelimiter(context);
 
@@ -152,6 +181,7 @@ public abstract class Parser {
 
             StatementType statementType = null;
             Boolean canExecuteInTransaction = null;
+            boolean returnsResults = false;
 
 
 
@@ -226,7 +256,8 @@ public abstract class Parser {
                     }
                     return createStatement(reader, recorder, statementPos, statementLine, statementCol,
                             nonCommentPartPos, nonCommentPartLine, nonCommentPartCol,
-                            statementType, canExecuteInTransaction, context.getDelimiter(), sql
+                            returnsResults ? StatementType.GENERIC : statementType, canExecuteInTransaction,
+                            context.getDelimiter(), sql
 
 
 
@@ -246,6 +277,11 @@ public abstract class Parser {
                 tokens.add(token);
                 recorder.confirm();
 
+                if (statementType == StatementType.DML && tokenType == TokenType.KEYWORD && parensDepth == 0
+                        && !returnsResults) {
+                    returnsResults = getResultClauseKeywords().contains(keywordToUpperCase(token.getText()));
+                }
+
                 if (keywords.size() <= getTransactionalDetectionCutoff()
                         && (tokenType == TokenType.KEYWORD
 
@@ -381,7 +417,7 @@ public abstract class Parser {
 
     ) throws IOException {
         return new ParsedSqlStatement(statementPos, statementLine, statementCol,
-                sql, delimiter, canExecuteInTransaction
+                sql, delimiter, canExecuteInTransaction, statementType
 
 
 
@@ -389,6 +425,9 @@ public abstract class Parser {
     }
 
     protected StatementType detectStatementType(String simplifiedStatement) {
+        if (DML_KEYWORDS.contains(simplifiedStatement)) {
+            return StatementType.DML;
+        }
         return null;
     }
 
@@ -396,6 +435,14 @@ public abstract class Parser {
         return true;
     }
 
+    /**
+     * @return The keywords which introduce a clause through which a DML statement returns results. Such statements
+     * are never batched, as their results would be lost.
+     */
+    protected Set<String> getResultClauseKeywords() {
+        return RESULT_CLAUSE_KEYWORDS;
+    }
+
 
 
 
@@ -22,19 +22,122 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.Arrays;
 
+/**
+ * The character source of the parser. Characters are read from the underlying reader in blocks into a window that can
+ * be peeked into without any mark/reset round trips through the reader chain. Consuming a character also advances the
+ * position tracker and feeds the recorder, so each character is only handled once.
+ */
 public class PeekingReader extends FilterReader {
-    private int[] peekBuffer = new int[256];
-    private int peekMax = 0;
-    private int peekBufferOffset = 0;
+    /**
+     * The number of characters to read from the underlying reader at once.
+     */
+    private static final int BLOCK_SIZE = 8192;
+
+    private final Recorder recorder;
+    private final PositionTracker tracker;
+
+    private char[] buffer = new char[BLOCK_SIZE];
+    private int bufferPos = 0;
+    private int bufferEnd = 0;
+    private boolean eof;
 
-    PeekingReader(Reader in) {
+    PeekingReader(Reader in, Recorder recorder, PositionTracker tracker) {
         super(in);
+        this.recorder = recorder;
+        this.tracker = tracker;
     }
 
     @Override
     public int read() throws IOException {
-        peekBufferOffset++;
-        return super.read();
+        if (bufferPos >= bufferEnd && !fill(1)) {
+            return -1;
+        }
+
+        char c = buffer[bufferPos++];
+        tracker.nextPos();
+        if (c == '\n') {
+            tracker.linefeed();
+        } else if (c == '\r') {
+            tracker.carriageReturn();
+        } else {
+            tracker.nextCol();
+        }
+        recorder.record(c);
+        return c;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int count = 0;
+        while (count < len) {
+            int r = read();
+            if (r == -1) {
+                return count == 0 ? -1 : count;
+            }
+            cbuf[off + count++] = (char) r;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && read() != -1) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
+
+    /**
+     * Ensures at least this number of characters is available in the window, unless the end of the stream is reached
+     * first.
+     *
+     * @param numChars The number of characters required.
+     * @return {@code true} if they are available, {@code false} if the end of the stream was reached before.
+     */
+    private boolean fill(int numChars) throws IOException {
+        if (bufferEnd - bufferPos >= numChars) {
+            return true;
+        }
+        if (eof) {
+            return false;
+        }
+
+        if (bufferPos > 0) {
+            System.arraycopy(buffer, bufferPos, buffer, 0, bufferEnd - bufferPos);
+            bufferEnd -= bufferPos;
+            bufferPos = 0;
+        }
+        if (numChars > buffer.length) {
+            // We need to peek beyond the physical size of the buffer - eg. we have encountered a very long string
+            // literal - so expand it to be big enough to contain it.
+            buffer = Arrays.copyOf(buffer, numChars + BLOCK_SIZE);
+        }
+
+        while (bufferEnd < numChars) {
+            int read = in.read(buffer, bufferEnd, buffer.length - bufferEnd);
+            if (read == -1) {
+                eof = true;
+                return false;
+            }
+            bufferEnd += read;
+        }
+        return true;
     }
 
     /**
@@ -56,26 +159,10 @@ public class PeekingReader extends FilterReader {
     }
 
     private int peek() throws IOException {
-        if (peekBufferOffset >= peekMax) {
-            refillPeekBuffer();
+        if (bufferPos >= bufferEnd && !fill(1)) {
+            return -1;
         }
-
-        return peekBuffer[peekBufferOffset];
-    }
-
-    private void refillPeekBuffer() throws IOException {
-        mark(peekBuffer.length);
-        peekMax = peekBuffer.length;
-        peekBufferOffset = 0;
-        for (int i = 0; i < peekBuffer.length; i++) {
-            int read = super.read();
-            peekBuffer[i] = read;
-            if (read == '\n') {
-                peekMax = i;
-                break;
-            }
-        }
-        reset();
+        return buffer[bufferPos];
     }
 
     /**
@@ -150,7 +237,16 @@ public class PeekingReader extends FilterReader {
      * @return {@code true} if they do, {@code false} if not.
      */
     public boolean peek(String str) throws IOException {
-        return str.equals(peek(str.length()));
+        int length = str.length();
+        if (!fill(length)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[bufferPos + i] != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -160,32 +256,13 @@ public class PeekingReader extends FilterReader {
      * @return The characters.
      */
     public String peek(int numChars) throws IOException {
-        // If we need to peek beyond the physical size of the peek buffer - eg. we have encountered a very
-        // long string literal - then expand the buffer to be big enough to contain it.
-        if (numChars >= peekBuffer.length) {
-            resizePeekBuffer(numChars);
-        }
-
-        if (peekBufferOffset + numChars >= peekMax) {
-            refillPeekBuffer();
-        }
+        fill(numChars);
 
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < numChars; i++) {
-            int r = peekBuffer[peekBufferOffset + i];
-            if (r == -1) {
-                break;
-            }
-            result.append((char) r);
-        }
-        if (result.length() == 0) {
+        int available = Math.min(numChars, bufferEnd - bufferPos);
+        if (available <= 0) {
             return null;
         }
-        return result.toString();
-    }
-
-    private void resizePeekBuffer(int newSize) {
-        peekBuffer = Arrays.copyOf(peekBuffer, newSize + peekBufferOffset);
+        return new String(buffer, bufferPos, available);
     }
 
     /**
@@ -398,7 +475,7 @@ public class PeekingReader extends FilterReader {
             char c = (char) r;
 
             result.append(c);
-            if (result.toString().endsWith(delimiterSequence)) {
+            if (endsWith(result, delimiterSequence)) {
                 break;
             }
         } while (true);
@@ -468,4 +545,17 @@ public class PeekingReader extends FilterReader {
         } while (true);
         return result.toString();
     }
+
+    private static boolean endsWith(StringBuilder result, String str) {
+        int offset = result.length() - str.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            if (result.charAt(offset + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
\ No newline at end of file
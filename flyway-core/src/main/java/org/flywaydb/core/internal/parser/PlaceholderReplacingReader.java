@@ -23,107 +23,120 @@ import java.io.Reader;
 import java.util.Map;
 
 public class PlaceholderReplacingReader extends FilterReader {
+    /**
+     * The number of characters to read from the underlying reader at once.
+     */
+    private static final int BLOCK_SIZE = 8192;
+
     private final String prefix;
     private final String suffix;
     private final Map<String, String> placeholders;
 
     /**
-     * The number of chars by which to increase the read-ahead limit to factor in the difference in length between
-     * placeholders (with prefix and suffix) and their replacements.
+     * The first character of the prefix, or -1 if the prefix is empty. Any character other than this one can be passed
+     * through as is.
      */
-    private final int readAheadLimitAdjustment;
+    private final int prefixStart;
+
+    private final char[] input = new char[BLOCK_SIZE];
+    private int inputPos;
+    private int inputEnd;
 
-    private final StringBuilder buffer = new StringBuilder();
-    private String markBuffer;
+    /**
+     * The characters read while attempting to match the prefix that turned out not to be part of it.
+     */
+    private final char[] pending;
+    private int pendingPos;
+    private int pendingEnd;
 
     private String replacement;
     private int replacementPos;
 
-    private String markReplacement;
-    private int markReplacementPos;
+    /**
+     * The failure to replace a placeholder encountered in the middle of a bulk read. It is only thrown once the
+     * characters before the placeholder have been handed out, so the error surfaces at the position of the placeholder.
+     */
+    private RuntimeException failure;
 
     public PlaceholderReplacingReader(String prefix, String suffix, Map<String, String> placeholders, Reader in) {
         super(in);
         this.prefix = prefix;
         this.suffix = suffix;
         this.placeholders = placeholders;
-
-        int prefixSuffixLength = prefix.length() + suffix.length();
-        int maxPlaceholderLength = prefixSuffixLength;
-        int minReplacementLength = Integer.MAX_VALUE;
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            maxPlaceholderLength = Math.max(maxPlaceholderLength, prefixSuffixLength + entry.getKey().length());
-            int valueLength = (entry.getValue() != null) ? entry.getValue().length() : 0;
-            minReplacementLength = Math.min(minReplacementLength, valueLength);
-        }
-        readAheadLimitAdjustment = Math.max(maxPlaceholderLength - minReplacementLength, 0);
+        this.prefixStart = prefix.isEmpty() ? -1 : prefix.charAt(0);
+        this.pending = new char[Math.max(prefix.length(), 1)];
     }
 
     @Override
     public int read() throws IOException {
-        if (replacement == null) {
-            if (buffer.length() > 0) {
-                char c = buffer.charAt(0);
-                buffer.deleteCharAt(0);
-                return c;
-            }
-
-            int r;
-            do {
-                r = super.read();
-                if (r == -1) {
-                    break;
-                }
+        if (failure != null) {
+            throw failure;
+        }
+        if (replacement != null) {
+            return readReplacement();
+        }
+        if (pendingPos < pendingEnd) {
+            return pending[pendingPos++];
+        }
 
-                buffer.append((char) r);
-            } while (buffer.length() < prefix.length() && endsWith(buffer, prefix.substring(0, buffer.length())));
-            if (!endsWith(buffer, prefix)) {
-                if (buffer.length() > 0) {
-                    char c = buffer.charAt(0);
-                    buffer.deleteCharAt(0);
-                    return c;
-                }
-                return -1;
+        pendingPos = 0;
+        pendingEnd = 0;
+        int r;
+        do {
+            r = readInput();
+            if (r == -1) {
+                break;
             }
-            buffer.delete(0, buffer.length());
 
-            StringBuilder placeholderBuilder = new StringBuilder();
-            do {
-                int r1 = in.read();
-                if (r1 == -1) {
-                    break;
-                } else {
-                    placeholderBuilder.append((char) r1);
-                }
-            } while (!endsWith(placeholderBuilder, suffix));
-            for (int i = 0; i < suffix.length(); i++) {
-                placeholderBuilder.deleteCharAt(placeholderBuilder.length() - 1);
+            pending[pendingEnd++] = (char) r;
+        } while (pendingEnd < prefix.length() && pending[pendingEnd - 1] == prefix.charAt(pendingEnd - 1));
+        if (pendingEnd == 0 || pendingEnd != prefix.length() || pending[pendingEnd - 1] != prefix.charAt(pendingEnd - 1)) {
+            if (pendingPos < pendingEnd) {
+                return pending[pendingPos++];
             }
+            return -1;
+        }
+        pendingEnd = 0;
+
+        StringBuilder placeholderBuilder = new StringBuilder();
+        do {
+            int r1 = readInput();
+            if (r1 == -1) {
+                break;
+            } else {
+                placeholderBuilder.append((char) r1);
+            }
+        } while (!endsWith(placeholderBuilder, suffix));
+        for (int i = 0; i < suffix.length(); i++) {
+            placeholderBuilder.deleteCharAt(placeholderBuilder.length() - 1);
+        }
 
 
-            String placeholder = placeholderBuilder.toString();
-            if (!placeholders.containsKey(placeholder)) {
-                String canonicalPlaceholder = prefix + placeholder + suffix;
-
-                if (placeholder.contains("flyway:")) {
-                    throw new FlywayException("Failed to populate value for default placeholder: "
-                            + canonicalPlaceholder);
-                }
+        String placeholder = placeholderBuilder.toString();
+        if (!placeholders.containsKey(placeholder)) {
+            String canonicalPlaceholder = prefix + placeholder + suffix;
 
-                throw new FlywayException("No value provided for placeholder: "
-                        + canonicalPlaceholder
-                        + ".  Check your configuration!");
+            if (placeholder.contains("flyway:")) {
+                throw new FlywayException("Failed to populate value for default placeholder: "
+                        + canonicalPlaceholder);
             }
 
-            replacement = placeholders.get(placeholder);
+            throw new FlywayException("No value provided for placeholder: "
+                    + canonicalPlaceholder
+                    + ".  Check your configuration!");
+        }
 
-            // Empty placeholder value -> move to the next character
-            if (replacement == null || replacement.length() == 0) {
-                replacement = null;
-                return read();
-            }
+        replacement = placeholders.get(placeholder);
+
+        // Empty placeholder value -> move to the next character
+        if (replacement == null || replacement.length() == 0) {
+            replacement = null;
+            return read();
         }
+        return readReplacement();
+    }
 
+    private int readReplacement() {
         int result = replacement.charAt(replacementPos);
         replacementPos++;
         if (replacementPos >= replacement.length()) {
@@ -133,35 +146,95 @@ public class PlaceholderReplacingReader extends FilterReader {
         return result;
     }
 
+    private int readInput() throws IOException {
+        if (inputPos >= inputEnd && !fillInput()) {
+            return -1;
+        }
+        return input[inputPos++];
+    }
+
+    private boolean fillInput() throws IOException {
+        int read = in.read(input, 0, input.length);
+        if (read == -1) {
+            return false;
+        }
+        inputPos = 0;
+        inputEnd = read;
+        return true;
+    }
+
     @Override
     public int read(char[] cbuf, int off, int len) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+
         int count = 0;
-        for (int i = 0; i < len; i++) {
-            int r = read();
-            if (r == -1) {
-                return count == 0 ? -1 : count;
+        while (count < len) {
+            if (replacement == null && pendingPos >= pendingEnd) {
+                if (inputPos >= inputEnd && (count > 0 || !fillInput())) {
+                    break;
+                }
+
+                // Fast path: copy everything up to the next potential start of a placeholder in one go
+                int end = Math.min(inputEnd, inputPos + len - count);
+                int start = inputPos;
+                while (inputPos < end && input[inputPos] != prefixStart) {
+                    inputPos++;
+                }
+                System.arraycopy(input, start, cbuf, off + count, inputPos - start);
+                count += inputPos - start;
+                if (inputPos < end) {
+                    int r;
+                    try {
+                        r = read();
+                    } catch (RuntimeException e) {
+                        if (count == 0) {
+                            throw e;
+                        }
+                        failure = e;
+                        break;
+                    }
+                    if (r == -1) {
+                        break;
+                    }
+                    cbuf[off + count++] = (char) r;
+                }
+                continue;
             }
-            cbuf[off + i] = (char) r;
-            count++;
+
+            cbuf[off + count++] = (char) read();
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && read() != -1) {
+            skipped++;
         }
-        return count;
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return replacement != null || pendingPos < pendingEnd || inputPos < inputEnd || in.ready();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
     }
 
     @Override
     public void mark(int readAheadLimit) throws IOException {
-        markBuffer = buffer.toString();
-        markReplacement = replacement;
-        markReplacementPos = replacementPos;
-        super.mark(readAheadLimit + readAheadLimitAdjustment);
+        throw new IOException("mark() not supported");
     }
 
     @Override
     public void reset() throws IOException {
-        super.reset();
-        buffer.delete(0, buffer.length());
-        buffer.append(markBuffer);
-        replacement = markReplacement;
-        replacementPos = markReplacementPos;
+        throw new IOException("reset() not supported");
     }
 
     private boolean endsWith(StringBuilder result, String str) {
@@ -176,4 +249,4 @@ public class PlaceholderReplacingReader extends FilterReader {
         }
         return true;
     }
-}
\ No newline at end of file
+}
@@ -17,4 +17,10 @@ package org.flywaydb.core.internal.parser;
 
 public class StatementType {
     public static final StatementType GENERIC = new StatementType();
+
+    /**
+     * A plain INSERT, UPDATE, DELETE, MERGE or UPSERT statement that can be sent to the database as part of a batch.
+     * Statements returning results, such as through a RETURNING clause, are never of this type.
+     */
+    public static final StatementType DML = new StatementType();
 }
\ No newline at end of file
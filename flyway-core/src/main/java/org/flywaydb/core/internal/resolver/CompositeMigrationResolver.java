@@ -26,6 +26,7 @@ import org.flywaydb.core.internal.clazz.ClassProvider;
 import org.flywaydb.core.internal.resolver.java.FixedJavaMigrationResolver;
 import org.flywaydb.core.internal.resolver.java.ScanningJavaMigrationResolver;
 import org.flywaydb.core.internal.resolver.sql.SqlMigrationResolver;
+import org.flywaydb.core.internal.resource.ResourceCache;
 import org.flywaydb.core.internal.resource.ResourceProvider;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
@@ -61,6 +62,7 @@ public class CompositeMigrationResolver implements MigrationResolver {
      * @param classProvider            The class provider.
      * @param configuration            The Flyway configuration.
      * @param sqlScriptFactory         The SQL statement builder factory.
+     * @param resourceCache            The cache of resource checksums.
      * @param customMigrationResolvers Custom Migration Resolvers.
      */
     public CompositeMigrationResolver(ResourceProvider resourceProvider,
@@ -68,11 +70,12 @@ public class CompositeMigrationResolver implements MigrationResolver {
                                       Configuration configuration,
                                       SqlScriptExecutorFactory sqlScriptExecutorFactory,
                                       SqlScriptFactory sqlScriptFactory,
+                                      ResourceCache resourceCache,
                                       MigrationResolver... customMigrationResolvers
     ) {
         if (!configuration.isSkipDefaultResolvers()) {
             migrationResolvers.add(new SqlMigrationResolver(resourceProvider, sqlScriptExecutorFactory, sqlScriptFactory,
-                    configuration));
+                    resourceCache, configuration));
             migrationResolvers.add(new ScanningJavaMigrationResolver(classProvider, configuration));
         }
         migrationResolvers.add(new FixedJavaMigrationResolver(configuration.getJavaMigrations()));
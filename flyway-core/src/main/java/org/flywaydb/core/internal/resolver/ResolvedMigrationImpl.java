@@ -129,12 +129,13 @@ public class ResolvedMigrationImpl implements ResolvedMigration {
 
         ResolvedMigrationImpl migration = (ResolvedMigrationImpl) o;
 
-        if (checksum != null ? !checksum.equals(migration.checksum) : migration.checksum != null) return false;
         if (description != null ? !description.equals(migration.description) : migration.description != null)
             return false;
         if (script != null ? !script.equals(migration.script) : migration.script != null) return false;
         if (type != migration.type) return false;
-        return Objects.equals(version, migration.version);
+        if (!Objects.equals(version, migration.version)) return false;
+        // Compared last, as it may have to be calculated first
+        return Objects.equals(getChecksum(), migration.getChecksum());
     }
 
     @Override
@@ -142,7 +143,6 @@ public class ResolvedMigrationImpl implements ResolvedMigration {
         int result = (version != null ? version.hashCode() : 0);
         result = 31 * result + (description != null ? description.hashCode() : 0);
         result = 31 * result + (script != null ? script.hashCode() : 0);
-        result = 31 * result + (checksum != null ? checksum.hashCode() : 0);
         result = 31 * result + type.hashCode();
         return result;
     }
@@ -153,7 +153,7 @@ public class ResolvedMigrationImpl implements ResolvedMigration {
                 "version=" + version +
                 ", description='" + description + '\'' +
                 ", script='" + script + '\'' +
-                ", checksum=" + checksum +
+                ", checksum=" + getChecksum() +
                 ", type=" + type +
                 ", physicalLocation='" + physicalLocation + '\'' +
                 ", executor=" + executor +
@@ -74,4 +74,28 @@ public class SqlMigrationExecutor implements MigrationExecutor {
     public boolean canExecuteInTransaction() {
         return sqlScript.executeInTransaction();
     }
+
+    /**
+     * @return Whether executing this migration may change the state of the session, such as its current schema or
+     * role.
+     */
+    public boolean mayChangeSessionState() {
+        return sqlScript.mayChangeSessionState();
+    }
+
+    /**
+     * @return Whether this migration has been marked as independent of all other migrations, which allows it to be
+     * applied concurrently with them.
+     */
+    public boolean isIndependent() {
+        return sqlScript.isIndependent();
+    }
+
+    /**
+     * @return The lane this migration has been assigned to, or {@code null} if none. Migrations in different lanes
+     * may be applied concurrently.
+     */
+    public String getLane() {
+        return sqlScript.getLane();
+    }
 }
\ No newline at end of file
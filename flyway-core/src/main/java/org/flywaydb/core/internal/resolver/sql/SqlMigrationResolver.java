@@ -15,15 +15,18 @@
  */
 package org.flywaydb.core.internal.resolver.sql;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationType;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.executor.MigrationExecutor;
 import org.flywaydb.core.api.resolver.Context;
 import org.flywaydb.core.api.resolver.MigrationResolver;
 import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
 import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.ResourceCache;
 import org.flywaydb.core.internal.resource.ResourceName;
 import org.flywaydb.core.internal.resource.ResourceNameParser;
 import org.flywaydb.core.internal.resource.ResourceProvider;
@@ -36,6 +39,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.zip.CRC32;
 
 /**
@@ -55,6 +62,11 @@ public class SqlMigrationResolver implements MigrationResolver {
 
     private final SqlScriptFactory sqlScriptFactory;
 
+    /**
+     * The cache of resource checksums.
+     */
+    private final ResourceCache resourceCache;
+
     /**
      * The Flyway configuration.
      */
@@ -66,14 +78,16 @@ public class SqlMigrationResolver implements MigrationResolver {
      * @param resourceProvider         The Scanner for loading migrations on the classpath.
      * @param sqlScriptExecutorFactory The SQL script executor factory.
      * @param sqlScriptFactory         The SQL script factory.
+     * @param resourceCache            The cache of resource checksums.
      * @param configuration            The Flyway configuration.
      */
     public SqlMigrationResolver(ResourceProvider resourceProvider,
                                 SqlScriptExecutorFactory sqlScriptExecutorFactory, SqlScriptFactory sqlScriptFactory,
-                                Configuration configuration) {
+                                ResourceCache resourceCache, Configuration configuration) {
         this.sqlScriptExecutorFactory = sqlScriptExecutorFactory;
         this.resourceProvider = resourceProvider;
         this.sqlScriptFactory = sqlScriptFactory;
+        this.resourceCache = resourceCache;
         this.configuration = configuration;
     }
 
@@ -111,12 +125,30 @@ public class SqlMigrationResolver implements MigrationResolver {
     ){
         ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
 
+        List<LoadableResource> resources = new ArrayList<>();
+        List<ResourceName> resourceNames = new ArrayList<>();
         for (LoadableResource resource : resourceProvider.getResources(prefix, suffixes)) {
             String filename = resource.getFilename();
             ResourceName result = resourceNameParser.parse(filename);
             if (!result.isValid() || isSqlCallback(result)) {
                 continue;
             }
+            resources.add(resource);
+            resourceNames.add(result);
+        }
+
+        // Repeatable migrations are always compared by checksum, so there is nothing to gain by deferring their resolution
+        boolean lazy = configuration.isLazyResolve() && !repeatable;
+        int[] checksums = lazy ? null : calculateChecksums(resources);
+
+        for (int i = 0; i < resources.size(); i++) {
+            LoadableResource resource = resources.get(i);
+            ResourceName result = resourceNames.get(i);
+
+            if (lazy) {
+                migrations.add(new LazySqlMigration(result, resource));
+                continue;
+            }
 
             SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, configuration.isMixed(), resourceProvider);
 
@@ -135,7 +167,7 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
-                checksum = resource.checksum();
+                checksum = checksums[i];
 
 
 
@@ -188,6 +220,114 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
+    /**
+     * A versioned SQL migration whose checksum is only calculated and whose script is only loaded once they are first
+     * needed. Migrations which are never validated or executed, such as those below the baseline version or those
+     * applied long ago when validateOnMigrate is off, thus never cause their resource to be read.
+     */
+    private class LazySqlMigration extends ResolvedMigrationImpl {
+        private final LoadableResource resource;
+        private Integer checksum;
+        private MigrationExecutor executor;
+
+        LazySqlMigration(ResourceName resourceName, LoadableResource resource) {
+            super(resourceName.getVersion(), resourceName.getDescription(), resource.getRelativePath(), null,
+                    MigrationType.SQL, resource.getAbsolutePathOnDisk(), null);
+            this.resource = resource;
+        }
+
+        @Override
+        public synchronized Integer getChecksum() {
+            if (checksum == null) {
+                checksum = resourceCache.checksum(resource);
+            }
+            return checksum;
+        }
+
+        @Override
+        public synchronized MigrationExecutor getExecutor() {
+            if (executor == null) {
+                SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, configuration.isMixed(), resourceProvider);
+                executor = new SqlMigrationExecutor(sqlScriptExecutorFactory, sqlScript
+
+
+
+                );
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * Calculates the checksums of these resources. With more than one resolve thread, they are calculated in parallel.
+     *
+     * @param resources The resources.
+     * @return The checksums, in the same order as the resources.
+     * @throws FlywayException when the checksum of any of the resources could not be calculated. All failures are
+     *                         reported, not just the first one.
+     */
+    private int[] calculateChecksums(final List<LoadableResource> resources) {
+        int[] checksums = new int[resources.size()];
+
+        int threads = Math.min(configuration.getResolveThreads(), resources.size());
+        if (threads <= 1) {
+            for (int i = 0; i < resources.size(); i++) {
+                checksums[i] = resourceCache.checksum(resources.get(i));
+            }
+            return checksums;
+        }
+
+        final RuntimeException[] failures = new RuntimeException[resources.size()];
+        List<Callable<Integer>> tasks = new ArrayList<>(resources.size());
+        for (int i = 0; i < resources.size(); i++) {
+            final int index = i;
+            tasks.add(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    try {
+                        return resourceCache.checksum(resources.get(index));
+                    } catch (RuntimeException e) {
+                        failures[index] = e;
+                        return 0;
+                    }
+                }
+            });
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Future<Integer>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                checksums[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while calculating checksums of SQL migrations", e);
+        } catch (ExecutionException e) {
+            throw new FlywayException("Unable to calculate checksums of SQL migrations", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        List<RuntimeException> failed = new ArrayList<>();
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                failed.add(failure);
+            }
+        }
+        if (failed.size() == 1) {
+            throw failed.get(0);
+        }
+        if (!failed.isEmpty()) {
+            StringBuilder message = new StringBuilder("Unable to resolve " + failed.size() + " SQL migrations:");
+            for (RuntimeException failure : failed) {
+                message.append("\n").append(failure.getMessage());
+            }
+            throw new FlywayException(message.toString(), failed.get(0));
+        }
+        return checksums;
+    }
+
     /**
      * Checks whether this filename is actually a sql-based callback instead of a regular migration.
      *
@@ -33,6 +33,16 @@ public abstract class LoadableResource implements Resource, Comparable<LoadableR
 
     private Integer checksum;
 
+    protected LoadableResource() {
+    }
+
+    /**
+     * @param checksum The checksum of this resource, if it is already known. {@code null} to calculate it when needed.
+     */
+    protected LoadableResource(Integer checksum) {
+        this.checksum = checksum;
+    }
+
     /**
      * Reads the contents of this resource.
      *
@@ -57,33 +67,44 @@ public abstract class LoadableResource implements Resource, Comparable<LoadableR
      */
     public final int checksum() {
         if (checksum == null) {
-            final CRC32 crc32 = new CRC32();
-
-            BufferedReader reader = null;
-            try {
-                reader = new BufferedReader(read(), 4096);
-
-                String line = reader.readLine();
-
-                if (line != null) {
-                    line = BomFilter.FilterBomFromString(line);
-
-                    do {
-                        //noinspection Since15
-                        crc32.update(StringUtils.trimLineBreak(line).getBytes(StandardCharsets.UTF_8));
-                    } while ((line = reader.readLine()) != null);
-                }
-            } catch (IOException e) {
-                throw new FlywayException("Unable to calculate checksum for " + getFilename() + ": " + e.getMessage(), e);
-            } finally {
-                IOUtils.close(reader);
-            }
-
-            checksum = (int) crc32.getValue();
+            checksum = calculateChecksum();
         }
         return checksum;
     }
 
+    /**
+     * Calculates the checksum of this resource from its decoded contents. This is the crc-32 of the UTF-8 encoding of
+     * its lines, without line breaks and without any leading BOM. Subclasses may calculate the same value in a more
+     * efficient way.
+     *
+     * @return The crc-32 checksum of the bytes.
+     */
+    protected int calculateChecksum() {
+        final CRC32 crc32 = new CRC32();
+
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(read(), 4096);
+
+            String line = reader.readLine();
+
+            if (line != null) {
+                line = BomFilter.FilterBomFromString(line);
+
+                do {
+                    //noinspection Since15
+                    crc32.update(StringUtils.trimLineBreak(line).getBytes(StandardCharsets.UTF_8));
+                } while ((line = reader.readLine()) != null);
+            }
+        } catch (IOException e) {
+            throw new FlywayException("Unable to calculate checksum for " + getFilename() + ": " + e.getMessage(), e);
+        } finally {
+            IOUtils.close(reader);
+        }
+
+        return (int) crc32.getValue();
+    }
+
     @Override
     public int compareTo(LoadableResource o) {
         return getRelativePath().compareTo(o.getRelativePath());
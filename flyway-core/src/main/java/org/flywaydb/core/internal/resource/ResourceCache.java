@@ -0,0 +1,353 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resource;
+
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Cache of the checksums and parsing results of resources on disk which persists between runs. Entries are keyed by the
+ * absolute path of the resource and are only used as long as its size and last modification time remain unchanged.
+ */
+public class ResourceCache {
+    private static final Log LOG = LogFactory.getLog(ResourceCache.class);
+
+    /**
+     * The cache to use when no cache file has been configured. It never holds any entries.
+     */
+    private static final ResourceCache DISABLED = new ResourceCache(null, null);
+
+    /**
+     * Identifies the format of the cache file.
+     */
+    private static final int MAGIC = 0x46575243;
+    private static final int VERSION = 1;
+
+    /**
+     * Resources modified less than this number of milliseconds before the cache is saved are not cached, as a
+     * subsequent modification within the resolution of the file system timestamps would otherwise go unnoticed.
+     */
+    private static final long MODIFICATION_GRACE_PERIOD = 2000;
+
+    /**
+     * The cache file or {@code null} if the cache is disabled.
+     */
+    private final File file;
+
+    /**
+     * The encoding of the resources. Checksums are computed over the decoded contents and are therefore only valid for
+     * the encoding they were computed with.
+     */
+    private final String encoding;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean dirty;
+
+    private ResourceCache(File file, String encoding) {
+        this.file = file;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Loads the resource cache configured in this configuration.
+     *
+     * @param configuration The Flyway configuration.
+     * @return The resource cache. Without a configured cache file, this cache is disabled and never holds any entry.
+     */
+    public static ResourceCache load(Configuration configuration) {
+        String resourceCacheFile = configuration.getResourceCacheFile();
+        if (!StringUtils.hasText(resourceCacheFile)) {
+            return DISABLED;
+        }
+
+        ResourceCache resourceCache = new ResourceCache(new File(resourceCacheFile), configuration.getEncoding().name());
+        resourceCache.read();
+        return resourceCache;
+    }
+
+    private void read() {
+        if (!file.isFile()) {
+            return;
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            if (bytes.length < 8) {
+                throw new IOException("file is truncated");
+            }
+            CRC32 crc32 = new CRC32();
+            crc32.update(bytes, 0, bytes.length - 8);
+            if (crc32.getValue() != ByteBuffer.wrap(bytes, bytes.length - 8, 8).getLong()) {
+                throw new IOException("checksum mismatch");
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 8));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("unknown format");
+            }
+            if (!encoding.equals(in.readUTF())) {
+                LOG.debug("Ignoring resource cache " + file + " as it was created for a different encoding");
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String path = in.readUTF();
+                Entry entry = new Entry(in.readLong(), in.readLong());
+                if (in.readBoolean()) {
+                    entry.checksum = in.readInt();
+                }
+                if (in.readBoolean()) {
+                    entry.signature = in.readUTF();
+                    entry.parseResult = new ParseResult(in.readInt(), in.readBoolean());
+                }
+                entries.put(path, entry);
+            }
+            LOG.debug("Loaded " + count + " entries from resource cache " + file);
+        } catch (IOException e) {
+            LOG.warn("Ignoring invalid resource cache " + file + " (" + e.getMessage() + ")");
+            entries.clear();
+            dirty = true;
+        }
+    }
+
+    /**
+     * Retrieves the entry for this resource, replacing any existing one when the resource has changed since.
+     *
+     * @param resource The resource.
+     * @return The entry or {@code null} if this resource can not be cached.
+     */
+    private Entry getEntry(LoadableResource resource) {
+        String path = resource.getAbsolutePathOnDisk();
+        if (!StringUtils.hasLength(path)) {
+            return null;
+        }
+
+        File resourceFile = new File(path);
+        if (!resourceFile.isFile()) {
+            return null;
+        }
+        long length = resourceFile.length();
+        long lastModified = resourceFile.lastModified();
+
+        Entry entry = entries.get(path);
+        if (entry == null || entry.length != length || entry.lastModified != lastModified) {
+            entry = new Entry(length, lastModified);
+            entries.put(path, entry);
+        }
+        entry.used = true;
+        return entry;
+    }
+
+    /**
+     * Retrieves the checksum of this resource, only calculating it if no cached value is available.
+     *
+     * @param resource The resource.
+     * @return The checksum.
+     */
+    public int checksum(LoadableResource resource) {
+        if (file == null) {
+            return resource.checksum();
+        }
+
+        Entry entry;
+        synchronized (this) {
+            entry = getEntry(resource);
+            if (entry != null && entry.checksum != null) {
+                return entry.checksum;
+            }
+        }
+
+        int checksum = resource.checksum();
+        if (entry != null) {
+            synchronized (this) {
+                entry.checksum = checksum;
+                dirty = true;
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * Retrieves the cached result of parsing this resource.
+     *
+     * @param resource  The resource.
+     * @param signature The signature of the parser.
+     * @return The result or {@code null} if this resource hasn't been parsed with this signature before.
+     */
+    public synchronized ParseResult getParseResult(LoadableResource resource, String signature) {
+        if (file == null) {
+            return null;
+        }
+
+        Entry entry = getEntry(resource);
+        if (entry == null || !signature.equals(entry.signature)) {
+            return null;
+        }
+        return entry.parseResult;
+    }
+
+    /**
+     * Caches the result of parsing this resource.
+     *
+     * @param resource    The resource.
+     * @param signature   The signature of the parser.
+     * @param parseResult The result.
+     */
+    public synchronized void putParseResult(LoadableResource resource, String signature, ParseResult parseResult) {
+        if (file == null) {
+            return;
+        }
+
+        Entry entry = getEntry(resource);
+        if (entry != null) {
+            entry.signature = signature;
+            entry.parseResult = parseResult;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Writes this cache back to its file if anything has changed. Failures are logged, but never fatal, as the cache
+     * only serves to speed things up.
+     */
+    public synchronized void save() {
+        if (file == null || !dirty) {
+            return;
+        }
+
+        long cutoff = System.currentTimeMillis() - MODIFICATION_GRACE_PERIOD;
+        File tempFile = null;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(encoding);
+
+            Map<String, Entry> retained = new HashMap<>();
+            for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                if (entry.lastModified < cutoff && (entry.used || new File(mapEntry.getKey()).isFile())) {
+                    retained.put(mapEntry.getKey(), entry);
+                }
+            }
+            out.writeInt(retained.size());
+            for (Map.Entry<String, Entry> mapEntry : retained.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                out.writeUTF(mapEntry.getKey());
+                out.writeLong(entry.length);
+                out.writeLong(entry.lastModified);
+                out.writeBoolean(entry.checksum != null);
+                if (entry.checksum != null) {
+                    out.writeInt(entry.checksum);
+                }
+                out.writeBoolean(entry.parseResult != null);
+                if (entry.parseResult != null) {
+                    out.writeUTF(entry.signature);
+                    out.writeInt(entry.parseResult.getSqlStatementCount());
+                    out.writeBoolean(entry.parseResult.isNonTransactionalStatementFound());
+                }
+            }
+            CRC32 crc32 = new CRC32();
+            crc32.update(bytes.toByteArray());
+            out.writeLong(crc32.getValue());
+            out.flush();
+
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("unable to create directory " + directory);
+            }
+            // Write to a temporary file first, so concurrent runs never see a partially written cache
+            tempFile = File.createTempFile(file.getName(), ".tmp", directory);
+            Files.write(tempFile.toPath(), bytes.toByteArray());
+            try {
+                Files.move(tempFile.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            dirty = false;
+            LOG.debug("Saved " + retained.size() + " entries to resource cache " + file);
+        } catch (IOException e) {
+            LOG.warn("Unable to save resource cache " + file + ": " + e.getMessage());
+            if (tempFile != null) {
+                //noinspection ResultOfMethodCallIgnored
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * The result of parsing a resource.
+     */
+    public static final class ParseResult {
+        private final int sqlStatementCount;
+        private final boolean nonTransactionalStatementFound;
+
+        public ParseResult(int sqlStatementCount, boolean nonTransactionalStatementFound) {
+            this.sqlStatementCount = sqlStatementCount;
+            this.nonTransactionalStatementFound = nonTransactionalStatementFound;
+        }
+
+        /**
+         * @return The number of sql statements contained in the resource.
+         */
+        public int getSqlStatementCount() {
+            return sqlStatementCount;
+        }
+
+        /**
+         * @return Whether the resource contains at least one non-transactional statement.
+         */
+        public boolean isNonTransactionalStatementFound() {
+            return nonTransactionalStatementFound;
+        }
+    }
+
+    private static final class Entry {
+        private final long length;
+        private final long lastModified;
+        private Integer checksum;
+        private String signature;
+        private ParseResult parseResult;
+
+        /**
+         * Whether the resource was accessed during this run.
+         */
+        private boolean used;
+
+        private Entry(long length, long lastModified) {
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+}
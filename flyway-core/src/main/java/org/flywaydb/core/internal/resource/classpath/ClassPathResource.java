@@ -51,6 +51,19 @@ public class ClassPathResource extends LoadableResource {
      */
     public ClassPathResource(Location location, String fileNameWithAbsolutePath, ClassLoader classLoader,
                              Charset encoding) {
+        this(location, fileNameWithAbsolutePath, classLoader, encoding, null);
+    }
+
+    /**
+     * Creates a new ClassPathResource whose checksum is already known.
+     *
+     * @param fileNameWithAbsolutePath The path and filename of the resource on the classpath.
+     * @param classLoader              The ClassLoader to use.
+     * @param checksum                 The checksum of the resource. {@code null} to calculate it when needed.
+     */
+    public ClassPathResource(Location location, String fileNameWithAbsolutePath, ClassLoader classLoader,
+                             Charset encoding, Integer checksum) {
+        super(checksum);
         this.fileNameWithAbsolutePath = fileNameWithAbsolutePath;
         this.fileNameWithRelativePath = location == null || location.getPath().isEmpty()
                 ? fileNameWithAbsolutePath
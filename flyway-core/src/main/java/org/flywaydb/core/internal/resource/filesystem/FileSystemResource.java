@@ -20,13 +20,16 @@ import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.resource.LoadableResource;
-import org.flywaydb.core.internal.util.BomStrippingReader;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 
 /**
  * A resource on the filesystem.
@@ -35,6 +38,17 @@ public class FileSystemResource extends LoadableResource {
 
     private static final Log LOG = LogFactory.getLog(FileSystemResource.class);
 
+    /**
+     * Files of at least this size are memory-mapped for calculating their checksum. Smaller ones are simply read, as
+     * mapping them costs more than it saves.
+     */
+    private static final int MAPPING_THRESHOLD = 64 * 1024;
+
+    /**
+     * The number of bytes to process at a time when calculating checksums.
+     */
+    private static final int CHUNK_SIZE = 16 * 1024;
+
 
 
 
@@ -102,12 +116,175 @@ public class FileSystemResource extends LoadableResource {
         }
 
         try {
-            return new BufferedReader(new BomStrippingReader(new InputStreamReader(new FileInputStream(file), encoding)));
+            return new BufferedReader(new InputStreamReader(new FileInputStream(file), encoding));
         } catch (IOException e) {
             throw new FlywayException("Unable to load filesystem resource: " + file.getPath() + " (encoding: " + encoding + ")", e);
         }
     }
 
+    @Override
+    protected int calculateChecksum() {
+        if (StandardCharsets.UTF_8.equals(encoding)) {
+            try {
+                Integer checksum = calculateUtf8Checksum();
+                if (checksum != null) {
+                    return checksum;
+                }
+                LOG.debug("Filesystem resource " + file.getPath() + " is not well-formed UTF-8."
+                        + " Falling back to decoding it for calculating its checksum.");
+            } catch (IOException e) {
+                LOG.debug("Unable to calculate checksum of filesystem resource " + file.getPath() + " from its bytes."
+                        + " Falling back to decoding it. Exception message: " + e.getMessage());
+            }
+        }
+        return super.calculateChecksum();
+    }
+
+    /**
+     * Calculates the checksum of this UTF-8 encoded file directly from its bytes, skipping the decoding and re-encoding
+     * of every line. As long as the file is well-formed UTF-8, this yields the same value as decoding it. Large files
+     * are memory-mapped instead of being copied onto the heap.
+     *
+     * @return The checksum or {@code null} if the file is not well-formed UTF-8.
+     * @throws IOException when the file could not be read.
+     */
+    private Integer calculateUtf8Checksum() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            ByteBuffer buffer;
+            if (size >= MAPPING_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Keep reading until the buffer is full or the end of the file has been reached
+                }
+                buffer.flip();
+            }
+            return calculateUtf8Checksum(buffer);
+        }
+    }
+
+    /**
+     * Calculates the crc-32 of these UTF-8 bytes, leaving out all line breaks and any leading BOM. The bytes are
+     * processed in chunks small enough to stay in the CPU cache.
+     *
+     * @param buffer The bytes.
+     * @return The checksum or {@code null} if the bytes are not well-formed UTF-8.
+     */
+    private static Integer calculateUtf8Checksum(ByteBuffer buffer) {
+        CRC32 crc32 = new CRC32();
+        int limit = buffer.limit();
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, limit)];
+        ByteBuffer words = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN);
+
+        int position = 0;
+        if (limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            position = 3;
+        }
+        while (position < limit) {
+            int length = Math.min(chunk.length, limit - position);
+            buffer.position(position);
+            buffer.get(chunk, 0, length);
+            boolean lastChunk = position + length == limit;
+
+            int i = 0;
+            int lineStart = 0;
+            while (i < length) {
+                // Skip over plain ASCII without line breaks a word at a time
+                if (i + 8 <= length && isPlainAscii(words.getLong(i))) {
+                    i += 8;
+                    continue;
+                }
+                byte b = chunk[i];
+                if (b >= 0) {
+                    if (b == '\n' || b == '\r') {
+                        crc32.update(chunk, lineStart, i - lineStart);
+                        lineStart = i + 1;
+                    }
+                    i++;
+                } else {
+                    int sequenceLength = getUtf8SequenceLength(chunk, i, length);
+                    if (sequenceLength < 0) {
+                        if (!lastChunk && length - i < 4) {
+                            // The sequence may continue in the next chunk
+                            break;
+                        }
+                        return null;
+                    }
+                    i += sequenceLength;
+                }
+            }
+            crc32.update(chunk, lineStart, i - lineStart);
+            position += i;
+        }
+
+        return (int) crc32.getValue();
+    }
+
+    /**
+     * Determines the length of the multi-byte UTF-8 sequence at this position. Sequences that the JDK's UTF-8 decoder
+     * would reject as malformed (overlong forms, surrogates, code points beyond U+10FFFF, truncated sequences) are
+     * rejected here too.
+     *
+     * @param bytes The bytes.
+     * @param i     The position of the first byte of the sequence.
+     * @param limit The end of the bytes.
+     * @return The length of the sequence or -1 if it is malformed.
+     */
+    private static int getUtf8SequenceLength(byte[] bytes, int i, int limit) {
+        int b0 = bytes[i] & 0xFF;
+        if (b0 >= 0xC2 && b0 <= 0xDF) {
+            return i + 1 < limit && isContinuation(bytes[i + 1]) ? 2 : -1;
+        }
+        if (b0 >= 0xE0 && b0 <= 0xEF) {
+            if (i + 2 >= limit) {
+                return -1;
+            }
+            int b1 = bytes[i + 1] & 0xFF;
+            if ((b0 == 0xE0 && b1 < 0xA0) || (b0 == 0xED && b1 > 0x9F)
+                    || !isContinuation(bytes[i + 1]) || !isContinuation(bytes[i + 2])) {
+                return -1;
+            }
+            return 3;
+        }
+        if (b0 >= 0xF0 && b0 <= 0xF4) {
+            if (i + 3 >= limit) {
+                return -1;
+            }
+            int b1 = bytes[i + 1] & 0xFF;
+            if ((b0 == 0xF0 && b1 < 0x90) || (b0 == 0xF4 && b1 > 0x8F) || !isContinuation(bytes[i + 1])
+                    || !isContinuation(bytes[i + 2]) || !isContinuation(bytes[i + 3])) {
+                return -1;
+            }
+            return 4;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether these 8 bytes are all ASCII characters other than CR and LF.
+     *
+     * @param word The bytes.
+     * @return {@code true} if they are, {@code false} if not.
+     */
+    private static boolean isPlainAscii(long word) {
+        return ((word & 0x8080808080808080L) | hasZeroByte(word ^ 0x0A0A0A0A0A0A0A0AL)
+                | hasZeroByte(word ^ 0x0D0D0D0D0D0D0D0DL)) == 0;
+    }
+
+    private static long hasZeroByte(long word) {
+        return (word - 0x0101010101010101L) & ~word & 0x8080808080808080L;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
 
 
 
@@ -16,6 +16,7 @@
 package org.flywaydb.core.internal.scanner;
 
 import org.flywaydb.core.internal.scanner.classpath.ClassPathLocationScanner;
+import org.flywaydb.core.internal.scanner.classpath.MigrationIndex;
 
 import java.net.URL;
 import java.util.HashMap;
@@ -28,6 +29,17 @@ public class ResourceNameCache {
      */
     private final Map<ClassPathLocationScanner, Map<URL, Set<String>>> resourceNameCache = new HashMap<>();
 
+    /**
+     * Cache migration indexes by the URL of the classpath root they were looked up at. {@code null} if there is none.
+     */
+    private final Map<String, MigrationIndex> migrationIndexCache = new HashMap<>();
+
+    /**
+     * Cache the sorted entry names of jar files by the URL of the jar file, so each jar is only read once no matter how
+     * many locations it contains.
+     */
+    private final Map<String, String[]> jarEntryCache = new HashMap<>();
+
     public void put(ClassPathLocationScanner classPathLocationScanner, Map<URL, Set<String>> map){
         resourceNameCache.put(classPathLocationScanner, map);
     }
@@ -39,4 +51,24 @@ public class ResourceNameCache {
     public Set<String> get(ClassPathLocationScanner classPathLocationScanner, URL resolvedUrl){
         return resourceNameCache.get(classPathLocationScanner).get(resolvedUrl);
     }
+
+    public boolean containsMigrationIndex(String rootUrl){
+        return migrationIndexCache.containsKey(rootUrl);
+    }
+
+    public void putMigrationIndex(String rootUrl, MigrationIndex migrationIndex){
+        migrationIndexCache.put(rootUrl, migrationIndex);
+    }
+
+    public MigrationIndex getMigrationIndex(String rootUrl){
+        return migrationIndexCache.get(rootUrl);
+    }
+
+    public void putJarEntries(String jarFileUrl, String[] entryNames){
+        jarEntryCache.put(jarFileUrl, entryNames);
+    }
+
+    public String[] getJarEntries(String jarFileUrl){
+        return jarEntryCache.get(jarFileUrl);
+    }
 }
\ No newline at end of file
@@ -16,8 +16,6 @@
 package org.flywaydb.core.internal.scanner;
 
 import org.flywaydb.core.api.Location;
-import org.flywaydb.core.api.logging.Log;
-import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.clazz.ClassProvider;
 import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.ResourceProvider;
@@ -32,27 +30,41 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * Scanner for Resources and Classes.
  */
 public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
-    private static final Log LOG = LogFactory.getLog(Scanner.class);
-
     private final List<LoadableResource> resources = new ArrayList<>();
     private final List<Class<? extends I>> classes = new ArrayList<>();
 
+    /**
+     * The resources by relative path. When several resources share the same path, the first one found wins.
+     */
+    private final Map<String, LoadableResource> resourcesByRelativePath = new HashMap<>();
+
+    /**
+     * The positions of the resources in the list of resources, sorted by filename. This allows all resources whose
+     * filename starts with a given prefix to be found without looking at any of the others.
+     */
+    private final NavigableMap<String, List<Integer>> resourceIndicesByFilename = new TreeMap<>();
+
     /*
      * Constructor. Scans the given locations for resources, and classes implementing the specified interface.
      */
-    public Scanner(Class<I> implementedInterface, Collection<Location> locations, ClassLoader classLoader, Charset encoding
+    public Scanner(Class<I> implementedInterface, Collection<Location> locations, ClassLoader classLoader, Charset encoding,
+                   String[] fileSystemSuffixes, int threads
 
 
 
             , ResourceNameCache resourceNameCache
     ) {
-        FileSystemScanner fileSystemScanner = new FileSystemScanner(encoding
+        FileSystemScanner fileSystemScanner = new FileSystemScanner(encoding, fileSystemSuffixes, threads
 
 
 
@@ -71,17 +83,24 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
                 classes.addAll(resourceAndClassScanner.scanForClasses());
             }
         }
+
+        for (int i = 0; i < resources.size(); i++) {
+            LoadableResource resource = resources.get(i);
+            if (!resourcesByRelativePath.containsKey(resource.getRelativePath())) {
+                resourcesByRelativePath.put(resource.getRelativePath(), resource);
+            }
+            List<Integer> indices = resourceIndicesByFilename.get(resource.getFilename());
+            if (indices == null) {
+                indices = new ArrayList<>(1);
+                resourceIndicesByFilename.put(resource.getFilename(), indices);
+            }
+            indices.add(i);
+        }
     }
 
     @Override
     public LoadableResource getResource(String name) {
-        for (LoadableResource resource : resources) {
-            String fileName = resource.getRelativePath();
-            if (fileName.equals(name)) {
-                return resource;
-            }
-        }
-        return null;
+        return resourcesByRelativePath.get(name);
     }
 
     /**
@@ -89,18 +108,33 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
      *
      * @param prefix   The prefix of the resource names to match.
      * @param suffixes The suffixes of the resource names to match.
-     * @return The resources that were found.
+     * @return The resources that were found, in the order in which they were scanned.
      */
     public Collection<LoadableResource> getResources(String prefix, String... suffixes) {
         List<LoadableResource> result = new ArrayList<>();
-        for (LoadableResource resource : resources) {
-            String fileName = resource.getFilename();
+        if (!StringUtils.hasLength(prefix)) {
+            for (LoadableResource resource : resources) {
+                if (StringUtils.startsAndEndsWith(resource.getFilename(), prefix, suffixes)) {
+                    result.add(resource);
+                }
+            }
+            return result;
+        }
+
+        List<Integer> indices = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : resourceIndicesByFilename.tailMap(prefix, true).entrySet()) {
+            String fileName = entry.getKey();
+            if (!fileName.startsWith(prefix)) {
+                break;
+            }
             if (StringUtils.startsAndEndsWith(fileName, prefix, suffixes)) {
-                result.add(resource);
-            } else {
-                LOG.debug("Filtering out resource: " + resource.getAbsolutePath() + " (filename: " + fileName + ")");
+                indices.addAll(entry.getValue());
             }
         }
+        Collections.sort(indices);
+        for (int index : indices) {
+            result.add(resources.get(index));
+        }
         return result;
     }
 
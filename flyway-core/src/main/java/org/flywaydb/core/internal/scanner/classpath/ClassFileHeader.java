@@ -0,0 +1,170 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.scanner.classpath;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The header of a class file up to its direct supertypes, read without loading the class. This allows classes to be
+ * filtered by their type hierarchy without running any of their code.
+ */
+final class ClassFileHeader {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ENUM = 0x4000;
+
+    /**
+     * The tags of the constant pool entries, as defined by the JVM specification.
+     */
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final int accessFlags;
+
+    /**
+     * The internal names of the direct superclass, if any, followed by those of the directly implemented interfaces.
+     * Ex.: org/flywaydb/core/api/migration/BaseJavaMigration
+     */
+    private final List<String> supertypeNames;
+
+    private ClassFileHeader(int accessFlags, List<String> supertypeNames) {
+        this.accessFlags = accessFlags;
+        this.supertypeNames = supertypeNames;
+    }
+
+    /**
+     * Reads the header of this class file.
+     *
+     * @param inputStream The contents of the class file. It is closed once read.
+     * @return The header.
+     * @throws IOException when the class file could not be read or is invalid.
+     */
+    static ClassFileHeader read(InputStream inputStream) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid class file");
+            }
+            // Minor and major version
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+
+            int constantPoolCount = in.readUnsignedShort();
+            String[] utf8Entries = new String[constantPoolCount];
+            int[] classNameIndexes = new int[constantPoolCount];
+            for (int i = 1; i < constantPoolCount; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case CONSTANT_UTF8:
+                        utf8Entries[i] = in.readUTF();
+                        break;
+                    case CONSTANT_CLASS:
+                        classNameIndexes[i] = in.readUnsignedShort();
+                        break;
+                    case CONSTANT_STRING:
+                    case CONSTANT_METHOD_TYPE:
+                    case CONSTANT_MODULE:
+                    case CONSTANT_PACKAGE:
+                        in.readUnsignedShort();
+                        break;
+                    case CONSTANT_METHOD_HANDLE:
+                        in.readUnsignedByte();
+                        in.readUnsignedShort();
+                        break;
+                    case CONSTANT_INTEGER:
+                    case CONSTANT_FLOAT:
+                    case CONSTANT_FIELDREF:
+                    case CONSTANT_METHODREF:
+                    case CONSTANT_INTERFACE_METHODREF:
+                    case CONSTANT_NAME_AND_TYPE:
+                    case CONSTANT_DYNAMIC:
+                    case CONSTANT_INVOKE_DYNAMIC:
+                        in.readInt();
+                        break;
+                    case CONSTANT_LONG:
+                    case CONSTANT_DOUBLE:
+                        in.readLong();
+                        // These take up two entries
+                        i++;
+                        break;
+                    default:
+                        throw new IOException("Unknown constant pool tag " + tag);
+                }
+            }
+
+            int accessFlags = in.readUnsignedShort();
+            // This class
+            in.readUnsignedShort();
+
+            List<String> supertypeNames = new ArrayList<>();
+            int superClassIndex = in.readUnsignedShort();
+            // Only java/lang/Object and module-info have no superclass
+            if (superClassIndex != 0) {
+                supertypeNames.add(getClassName(utf8Entries, classNameIndexes, superClassIndex));
+            }
+            int interfacesCount = in.readUnsignedShort();
+            for (int i = 0; i < interfacesCount; i++) {
+                supertypeNames.add(getClassName(utf8Entries, classNameIndexes, in.readUnsignedShort()));
+            }
+            return new ClassFileHeader(accessFlags, supertypeNames);
+        }
+    }
+
+    private static String getClassName(String[] utf8Entries, int[] classNameIndexes, int index) throws IOException {
+        if (index <= 0 || index >= classNameIndexes.length
+                || classNameIndexes[index] <= 0 || classNameIndexes[index] >= utf8Entries.length
+                || utf8Entries[classNameIndexes[index]] == null) {
+            throw new IOException("Invalid class reference in constant pool: " + index);
+        }
+        return utf8Entries[classNameIndexes[index]];
+    }
+
+    /**
+     * @return Whether instances of this class can be created. Abstract classes, interfaces, annotations and enums can't.
+     */
+    boolean isInstantiable() {
+        // Interfaces and annotations are always abstract
+        return (accessFlags & (ACC_ABSTRACT | ACC_ENUM)) == 0;
+    }
+
+    /**
+     * @return The internal names of the direct superclass, if any, followed by those of the directly implemented
+     * interfaces.
+     */
+    List<String> getSupertypeNames() {
+        return supertypeNames;
+    }
+}
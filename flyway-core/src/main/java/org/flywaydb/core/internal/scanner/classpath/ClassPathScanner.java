@@ -18,6 +18,7 @@ package org.flywaydb.core.internal.scanner.classpath;
 import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.migration.JavaMigration;
 import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
 import org.flywaydb.core.internal.scanner.ResourceNameCache;
@@ -28,14 +29,13 @@ import org.flywaydb.core.internal.util.FeatureDetector;
 import org.flywaydb.core.internal.util.UrlUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.Charset;
 import java.util.*;
-import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.regex.Pattern;
 
 /**
  * ClassPath scanner.
@@ -67,6 +67,16 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
      */
     private final ResourceNameCache resourceNameCache;
 
+    /**
+     * Whether the supertypes with these internal names may implement {@link #implementedInterface}.
+     */
+    private final Map<String, Boolean> supertypeCache = new HashMap<>();
+
+    /**
+     * The migration indexes listing the resources that were found through them.
+     */
+    private final Map<String, MigrationIndex> indexedResources = new HashMap<>();
+
     /**
      * Creates a new Classpath scanner.
      *
@@ -81,7 +91,9 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
 
         LOG.debug("Scanning for classpath resources at '" + location + "' ...");
         for (String resourceName : findResourceNames()) {
-            resources.add(new ClassPathResource(location, resourceName, classLoader, encoding));
+            MigrationIndex index = indexedResources.get(resourceName);
+            resources.add(new ClassPathResource(location, resourceName, classLoader, encoding,
+                    index == null ? null : index.getChecksum(resourceName, encoding)));
             LOG.debug("Found resource: " + resourceName);
         }
     }
@@ -97,8 +109,20 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
 
         List<Class<? extends I>> classes = new ArrayList<>();
 
+        int classFiles = 0;
+        int candidates = 0;
         for (LoadableResource resource : resources) {
             if (resource.getAbsolutePath().endsWith(".class")) {
+                classFiles++;
+                MigrationIndex index = indexedResources.get(resource.getAbsolutePath());
+                if (index != null && implementedInterface == JavaMigration.class) {
+                    if (!index.isMigration(resource.getAbsolutePath())) {
+                        continue;
+                    }
+                } else if (!isCandidate(resource.getAbsolutePath())) {
+                    continue;
+                }
+                candidates++;
                 Class<? extends I> clazz = ClassUtils.loadClass(
                         implementedInterface,
                         toClassName(resource.getAbsolutePath()),
@@ -109,9 +133,83 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
             }
         }
 
+        LOG.debug("Loaded " + candidates + " of " + classFiles + " classes found at " + location
+                + " as candidates implementing " + implementedInterface.getName());
         return classes;
     }
 
+    /**
+     * Checks by reading its class file whether this class may be an instantiable implementation of
+     * {@link #implementedInterface}. This way classes sharing a location with the migrations are never loaded, let
+     * alone initialized. When in doubt, for example because a class file can't be read, the class is considered a
+     * candidate and loading it decides.
+     *
+     * @param classResourceName The resource name of the class file.
+     * @return {@code true} if it may, {@code false} if it definitely isn't.
+     */
+    private boolean isCandidate(String classResourceName) {
+        ClassFileHeader header = readClassFileHeader(classResourceName);
+        if (header == null) {
+            return true;
+        }
+        if (!header.isInstantiable()) {
+            LOG.debug("Skipping non-instantiable class: " + toClassName(classResourceName));
+            return false;
+        }
+        return mayImplement(header, new HashSet<String>());
+    }
+
+    private boolean mayImplement(ClassFileHeader header, Set<String> visited) {
+        for (String supertypeName : header.getSupertypeNames()) {
+            if (mayImplement(supertypeName, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayImplement(String typeName, Set<String> visited) {
+        String interfaceName = implementedInterface.getName().replace('.', '/');
+        if (typeName.equals(interfaceName)) {
+            return true;
+        }
+        // Types of the JDK can't implement types outside of it. This is also where every hierarchy ends.
+        if (typeName.startsWith("java/") && !interfaceName.startsWith("java/")) {
+            return false;
+        }
+        if (!visited.add(typeName)) {
+            return false;
+        }
+
+        Boolean cached = supertypeCache.get(typeName);
+        if (cached == null) {
+            ClassFileHeader header = readClassFileHeader(typeName + ".class");
+            cached = header == null || mayImplement(header, visited);
+            supertypeCache.put(typeName, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Reads the header of this class file.
+     *
+     * @param classResourceName The resource name of the class file.
+     * @return The header or {@code null} if it could not be read.
+     */
+    private ClassFileHeader readClassFileHeader(String classResourceName) {
+        InputStream inputStream = classLoader.getResourceAsStream(classResourceName);
+        if (inputStream == null) {
+            LOG.debug("Unable to find class file " + classResourceName);
+            return null;
+        }
+        try {
+            return ClassFileHeader.read(inputStream);
+        } catch (IOException e) {
+            LOG.debug("Unable to read class file " + classResourceName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Converts this resource name to a fully qualified class name.
      *
@@ -150,6 +248,9 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
                     names = classPathLocationScanner.findResourceNames(location.getPath(), resolvedUrl);
                     resourceNameCache.put(classPathLocationScanner, resolvedUrl, names);
                 }
+                if (classPathLocationScanner instanceof JarFileClassPathLocationScanner) {
+                    useMigrationIndex(resolvedUrl, names);
+                }
                 resourceNames.addAll(names);
             }
         }
@@ -168,36 +269,18 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
                 for (URL url : urlClassLoader.getURLs()) {
                     if ("file".equals(url.getProtocol())
                             && url.getPath().endsWith(".jar")
-                            && !url.getPath().matches(".*" + Pattern.quote("/jre/lib/") + ".*")) {
+                            && !url.getPath().contains("/jre/lib/")) {
                         // All non-system jars on disk
-                        JarFile jarFile;
-                        try {
-                            try {
-                                jarFile = new JarFile(url.toURI().getSchemeSpecificPart());
-                            } catch (URISyntaxException ex) {
-                                // Fallback for URLs that are not valid URIs (should hardly ever happen).
-                                jarFile = new JarFile(url.getPath().substring("file:".length()));
-                            }
-                        } catch (IOException | SecurityException e) {
-                            LOG.warn("Skipping unloadable jar file: " + url + " (" + e.getMessage() + ")");
+                        String[] entryNames = getJarEntryNames(url);
+                        if (entryNames == null) {
                             continue;
                         }
 
-                        try {
-                            Enumeration<JarEntry> entries = jarFile.entries();
-                            while (entries.hasMoreElements()) {
-                                String entryName = entries.nextElement().getName();
-                                if (entryName.startsWith(location.getPath())) {
-                                    locationResolved = true;
-                                    resourceNames.add(entryName);
-                                }
-                            }
-                        } finally {
-                            try {
-                                jarFile.close();
-                            } catch (IOException e) {
-                                // Ignore
-                            }
+                        String path = location.getPath();
+                        for (int i = JarFileClassPathLocationScanner.findFirst(entryNames, path);
+                             i < entryNames.length && entryNames[i].startsWith(path); i++) {
+                            locationResolved = true;
+                            resourceNames.add(entryNames[i]);
                         }
                     }
                 }
@@ -211,6 +294,103 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         return resourceNames;
     }
 
+    /**
+     * Retrieves the sorted names of the entries of this jar file, reading them only if no other location did before.
+     *
+     * @param url The URL of the jar file on disk.
+     * @return The entry names or {@code null} if the jar file could not be read.
+     */
+    private String[] getJarEntryNames(URL url) {
+        String jarFileUrl = url.toExternalForm();
+        String[] entryNames = resourceNameCache.getJarEntries(jarFileUrl);
+        if (entryNames != null) {
+            return entryNames;
+        }
+
+        JarFile jarFile;
+        try {
+            try {
+                jarFile = new JarFile(url.toURI().getSchemeSpecificPart());
+            } catch (URISyntaxException ex) {
+                // Fallback for URLs that are not valid URIs (should hardly ever happen).
+                jarFile = new JarFile(url.getPath().substring("file:".length()));
+            }
+        } catch (IOException | SecurityException e) {
+            LOG.warn("Skipping unloadable jar file: " + url + " (" + e.getMessage() + ")");
+            return null;
+        }
+
+        try {
+            entryNames = JarFileClassPathLocationScanner.readEntryNames(jarFile);
+        } finally {
+            try {
+                jarFile.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+        resourceNameCache.putJarEntries(jarFileUrl, entryNames);
+        return entryNames;
+    }
+
+    /**
+     * Uses the migration index packaged along with the resources found at this location, if any, for their checksums
+     * and to tell which of their classes are Java migrations. The index is only used if it lists exactly these
+     * resources, as it is otherwise out of date. Their contents were already checked when the index was loaded.
+     *
+     * @param locationUrl   The URL of the location.
+     * @param resourceNames The names of the resources found at this location.
+     */
+    private void useMigrationIndex(URL locationUrl, Set<String> resourceNames) {
+        MigrationIndex index = getMigrationIndex(locationUrl);
+        if (index == null || !index.covers(location.getPath())) {
+            return;
+        }
+
+        Set<String> fileNames = new TreeSet<>();
+        for (String resourceName : resourceNames) {
+            // Skip the directory entries
+            if (!resourceName.endsWith("/")) {
+                fileNames.add(resourceName);
+            }
+        }
+        Set<String> indexedNames = index.getResourceNames(location.getPath());
+        if (!indexedNames.equals(fileNames)) {
+            LOG.warn("Ignoring outdated migration index for " + locationUrl.toExternalForm() + " (" + indexedNames.size()
+                    + " resources indexed, " + fileNames.size() + " found)");
+            return;
+        }
+
+        LOG.debug("Using migration index for URL: " + locationUrl.toExternalForm());
+        for (String name : indexedNames) {
+            indexedResources.put(name, index);
+        }
+    }
+
+    /**
+     * Retrieves the migration index packaged at the root of the classpath containing this location, such as the root
+     * of its jar file.
+     *
+     * @param locationUrl The URL of the location.
+     * @return The index or {@code null} if there is none.
+     */
+    private MigrationIndex getMigrationIndex(URL locationUrl) {
+        String path = location.getPath();
+        String url = locationUrl.toExternalForm();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        if (path.isEmpty() || !url.endsWith("/" + path)) {
+            return null;
+        }
+        String rootUrl = url.substring(0, url.length() - path.length());
+
+        if (!resourceNameCache.containsMigrationIndex(rootUrl)) {
+            resourceNameCache.putMigrationIndex(rootUrl, MigrationIndex.load(rootUrl));
+        }
+        return resourceNameCache.getMigrationIndex(rootUrl);
+    }
+
     /**
      * Gets the physical location urls for this logical path on the classpath.
      *
@@ -294,7 +474,7 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
 
         if ("jar".equals(protocol) || isTomcat(protocol) || isWebLogic(protocol) || isWebSphere(protocol)) {
             String separator = isTomcat(protocol) ? "*/" : "!/";
-            ClassPathLocationScanner locationScanner = new JarFileClassPathLocationScanner(separator);
+            ClassPathLocationScanner locationScanner = new JarFileClassPathLocationScanner(separator, resourceNameCache);
             locationScannerCache.put(protocol, locationScanner);
             resourceNameCache.put(locationScanner, new HashMap<>());
             return locationScanner;
@@ -17,15 +17,18 @@ package org.flywaydb.core.internal.scanner.classpath;
 
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
-import org.flywaydb.core.internal.util.IOUtils;
+import org.flywaydb.core.internal.scanner.ResourceNameCache;
 
 import java.io.IOException;
 import java.net.JarURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.jar.JarEntry;
@@ -43,41 +46,72 @@ public class JarFileClassPathLocationScanner implements ClassPathLocationScanner
     private final String separator;
 
     /**
-     * @param separator The separator that delimits the jar file name and the file inside the jar within a URL.
+     * The cache of the entries of the jar files already read, shared with the scanners of the other locations.
      */
-    JarFileClassPathLocationScanner(String separator) { this.separator = separator; }
+    private final ResourceNameCache resourceNameCache;
+
+    /**
+     * @param separator         The separator that delimits the jar file name and the file inside the jar within a URL.
+     * @param resourceNameCache The cache of the entries of the jar files already read.
+     */
+    JarFileClassPathLocationScanner(String separator, ResourceNameCache resourceNameCache) {
+        this.separator = separator;
+        this.resourceNameCache = resourceNameCache;
+    }
 
     public Set<String> findResourceNames(String location, URL locationUrl) {
-        JarFile jarFile;
+        URLConnection con;
+        String jarFileUrl;
         try {
-            jarFile = getJarFromUrl(locationUrl);
+            con = locationUrl.openConnection();
+            // Only parses the URL, the jar file isn't opened yet
+            if (con instanceof JarURLConnection) {
+                jarFileUrl = ((JarURLConnection) con).getJarFileURL().toExternalForm();
+            } else {
+                String urlFile = locationUrl.getFile();
+                int separatorIndex = urlFile.indexOf(separator);
+                jarFileUrl = separatorIndex == -1 ? urlFile : urlFile.substring(0, separatorIndex);
+            }
         } catch (IOException e) {
             LOG.warn("Unable to determine jar from url (" + locationUrl + "): " + e.getMessage());
             return Collections.emptySet();
         }
 
-        try {
-            // For Tomcat and non-expanded WARs.
-            String prefix = jarFile.getName().toLowerCase().endsWith(".war") ? "WEB-INF/classes/" : "";
-            return findResourceNamesFromJarFile(jarFile, prefix, location);
-        } finally {
+        String[] entryNames = resourceNameCache.getJarEntries(jarFileUrl);
+        if (entryNames == null) {
+            JarFile jarFile;
             try {
-                jarFile.close();
+                jarFile = getJarFromUrl(locationUrl, con);
             } catch (IOException e) {
-                // Ignore
+                LOG.warn("Unable to determine jar from url (" + locationUrl + "): " + e.getMessage());
+                return Collections.emptySet();
+            }
+            try {
+                entryNames = readEntryNames(jarFile);
+            } finally {
+                try {
+                    jarFile.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
             }
+            resourceNameCache.putJarEntries(jarFileUrl, entryNames);
         }
+
+        // For Tomcat and non-expanded WARs.
+        String prefix = jarFileUrl.toLowerCase().endsWith(".war") ? "WEB-INF/classes/" : "";
+        return findResourceNames(entryNames, prefix, location);
     }
 
     /**
      * Retrieves the Jar file represented by this URL.
      *
      * @param locationUrl The URL of the jar.
+     * @param con         The connection to this URL.
      * @return The jar file.
      * @throws IOException when the jar could not be resolved.
      */
-    private JarFile getJarFromUrl(URL locationUrl) throws IOException {
-        URLConnection con = locationUrl.openConnection();
+    private JarFile getJarFromUrl(URL locationUrl, URLConnection con) throws IOException {
         if (con instanceof JarURLConnection) {
             // Should usually be the case for traditional JAR files.
             JarURLConnection jarCon = (JarURLConnection) con;
@@ -108,26 +142,52 @@ public class JarFileClassPathLocationScanner implements ClassPathLocationScanner
         return new JarFile(urlFile);
     }
 
+    /**
+     * Reads the names of all the entries of this jar file.
+     *
+     * @param jarFile The jar file.
+     * @return The entry names, sorted so that all names starting with a given prefix can be found by binary search.
+     */
+    static String[] readEntryNames(JarFile jarFile) {
+        List<String> entryNames = new ArrayList<>(jarFile.size());
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            entryNames.add(entries.nextElement().getName());
+        }
+
+        String[] sortedEntryNames = entryNames.toArray(new String[0]);
+        Arrays.sort(sortedEntryNames);
+        return sortedEntryNames;
+    }
+
     /**
      * Finds all the resource names contained in this directory within this jar file.
      *
-     * @param jarFile  The jar file.
-     * @param prefix   The prefix to ignore within the jar file.
-     * @param location The location to look under.
+     * @param entryNames The sorted names of the entries of the jar file.
+     * @param prefix     The prefix to ignore within the jar file.
+     * @param location   The location to look under.
      * @return The resource names.
      */
-    private Set<String> findResourceNamesFromJarFile(JarFile jarFile, String prefix, String location) {
+    private static Set<String> findResourceNames(String[] entryNames, String prefix, String location) {
         String toScan = prefix + location + (location.endsWith("/") ? "" : "/");
         Set<String> resourceNames = new TreeSet<>();
 
-        Enumeration<JarEntry> entries = jarFile.entries();
-        while (entries.hasMoreElements()) {
-            String entryName = entries.nextElement().getName();
-            if (entryName.startsWith(toScan)) {
-                resourceNames.add(entryName.substring(prefix.length()));
-            }
+        for (int i = findFirst(entryNames, toScan); i < entryNames.length && entryNames[i].startsWith(toScan); i++) {
+            resourceNames.add(entryNames[i].substring(prefix.length()));
         }
 
         return resourceNames;
     }
+
+    /**
+     * Finds the position of the first of these sorted entry names starting with this prefix.
+     *
+     * @param entryNames The sorted names of the entries of the jar file.
+     * @param prefix     The prefix.
+     * @return The position of the first name that is not less than the prefix.
+     */
+    static int findFirst(String[] entryNames, String prefix) {
+        int index = Arrays.binarySearch(entryNames, prefix);
+        return index < 0 ? -index - 1 : index;
+    }
 }
\ No newline at end of file
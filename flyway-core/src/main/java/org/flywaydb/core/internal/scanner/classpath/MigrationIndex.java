@@ -0,0 +1,389 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.scanner.classpath;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
+import org.flywaydb.core.internal.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+
+/**
+ * An index of the migrations packaged in an artifact, generated at build time by the Maven and Gradle plugins. It
+ * lists the resources of the classpath locations it was created for together with their checksums and tells which of
+ * their classes are Java migrations. When an artifact contains an index, its resources don't need to be read to be
+ * checksummed and only its Java migrations are ever loaded. An index is only used as long as it lists exactly the
+ * resources found at a location with the same size and CRC-32 as their entries in the jar file, so that an index that
+ * has become out of date is ignored.
+ *
+ * <p>The index is a UTF-8 text file with one tab-separated entry per line. Resources are listed with their size, their
+ * CRC-32 and, except for class files, their checksum:</p>
+ * <pre>
+ * #Flyway migration index 2
+ * encoding    UTF-8
+ * location    db/migration
+ * resource    db/migration/V1__Create_table.sql    57      2694419547    -1726154325
+ * resource    db/migration/V2__Fill_table.class    1482    3868213040
+ * migration   db/migration/V2__Fill_table.class
+ * </pre>
+ */
+public final class MigrationIndex {
+    private static final Log LOG = LogFactory.getLog(MigrationIndex.class);
+
+    /**
+     * The resource name of the index within its artifact.
+     */
+    public static final String RESOURCE_NAME = "META-INF/flyway/index";
+
+    private static final String HEADER = "#Flyway migration index 2";
+    private static final String ENCODING = "encoding";
+    private static final String LOCATION = "location";
+    private static final String RESOURCE = "resource";
+    private static final String MIGRATION = "migration";
+
+    /**
+     * The encoding the checksums were calculated with.
+     */
+    private final String encoding;
+
+    /**
+     * The paths of the classpath locations that were indexed.
+     * Ex.: db/migration
+     */
+    private final Set<String> locationPaths = new TreeSet<>();
+
+    /**
+     * The indexed resources by resource name.
+     */
+    private final NavigableMap<String, IndexedResource> resources = new TreeMap<>();
+
+    /**
+     * The resource names of the class files that are Java migrations.
+     */
+    private final Set<String> migrationClassFiles = new HashSet<>();
+
+    private MigrationIndex(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Indexes the classpath locations of this configuration in these directories and writes the index to this output
+     * directory, from where it will be packaged along with the migrations. When no classpath location is configured,
+     * the default location {@code db/migration} is indexed.
+     *
+     * @param configuration   The Flyway configuration. Its ClassLoader must be able to load the classes to index.
+     * @param outputDirectory The directory to write the index to.
+     * @param directories     The directories containing the compiled classes and resources to index.
+     */
+    public static void create(Configuration configuration, File outputDirectory, Collection<File> directories) {
+        MigrationIndex index = new MigrationIndex(configuration.getEncoding().name());
+        for (Location location : configuration.getLocations()) {
+            if (location.isClassPath()) {
+                index.locationPaths.add(location.getPath());
+            }
+        }
+        if (index.locationPaths.isEmpty()) {
+            index.locationPaths.add("db/migration");
+        }
+
+        for (File directory : directories) {
+            for (String locationPath : index.locationPaths) {
+                index.addResources(new File(directory, locationPath), locationPath,
+                        configuration.getEncoding(), configuration.getClassLoader());
+            }
+        }
+
+        File file = new File(outputDirectory, RESOURCE_NAME);
+        try {
+            index.write(file);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to write migration index " + file + ": " + e.getMessage(), e);
+        }
+        LOG.info("Indexed " + index.resources.size() + " resources (" + index.migrationClassFiles.size()
+                + " Java migrations) at " + index.locationPaths + " in " + file);
+    }
+
+    private void addResources(File file, String resourceName, Charset encoding, ClassLoader classLoader) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                addResources(child, resourceName + "/" + child.getName(), encoding, classLoader);
+            }
+            return;
+        }
+        if (!file.isFile()) {
+            return;
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw new FlywayException("Unable to read " + file + " for the migration index: " + e.getMessage(), e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        if (resourceName.endsWith(".class")) {
+            resources.put(resourceName, new IndexedResource(content.length, crc.getValue(), null));
+            String className = resourceName.substring(0, resourceName.length() - ".class".length()).replace('/', '.');
+            if (ClassUtils.loadClass(JavaMigration.class, className, classLoader) != null) {
+                migrationClassFiles.add(resourceName);
+            }
+        } else {
+            resources.put(resourceName, new IndexedResource(content.length, crc.getValue(),
+                    new FileSystemResource(null, file.getPath(), encoding
+
+
+
+                    ).checksum()));
+        }
+    }
+
+    private void write(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8))) {
+            writer.write(HEADER + "\n");
+            writer.write(ENCODING + "\t" + encoding + "\n");
+            for (String locationPath : locationPaths) {
+                writer.write(LOCATION + "\t" + locationPath + "\n");
+            }
+            for (Map.Entry<String, IndexedResource> entry : resources.entrySet()) {
+                IndexedResource resource = entry.getValue();
+                writer.write(RESOURCE + "\t" + entry.getKey() + "\t" + resource.size + "\t" + resource.crc
+                        + (resource.checksum == null ? "" : "\t" + resource.checksum) + "\n");
+            }
+            for (String migrationClassFile : new TreeSet<>(migrationClassFiles)) {
+                writer.write(MIGRATION + "\t" + migrationClassFile + "\n");
+            }
+        }
+    }
+
+    /**
+     * Loads the index packaged at this root of the classpath within a jar file. The index is only returned if the
+     * resources it lists still have the same size and CRC-32 as their entries in the jar file.
+     *
+     * @param rootUrl The URL of the root of the classpath within a jar file. Ex.: jar:file:/app.jar!/
+     * @return The index or {@code null} if there is none, it could not be read or it is out of date.
+     */
+    static MigrationIndex load(String rootUrl) {
+        URL url;
+        URLConnection connection;
+        try {
+            url = new URL(rootUrl + RESOURCE_NAME);
+            // Only parses the URL, the jar file isn't opened yet
+            connection = url.openConnection();
+        } catch (IOException e) {
+            return null;
+        }
+        if (!(connection instanceof JarURLConnection)) {
+            // Without the entries of the jar file the index can't be checked for being up to date
+            return null;
+        }
+
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        // Don't keep the jar file open
+        jarConnection.setUseCaches(false);
+        String entryName = jarConnection.getEntryName();
+        String prefix = entryName.substring(0, entryName.length() - RESOURCE_NAME.length());
+
+        try (JarFile jarFile = jarConnection.getJarFile()) {
+            JarEntry indexEntry = jarFile.getJarEntry(entryName);
+            if (indexEntry == null) {
+                return null;
+            }
+
+            MigrationIndex index;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(jarFile.getInputStream(indexEntry), StandardCharsets.UTF_8))) {
+                index = read(reader);
+            }
+
+            String changedResourceName = index.findChangedResource(jarFile, prefix);
+            if (changedResourceName != null) {
+                LOG.warn("Ignoring outdated migration index " + url + " (" + changedResourceName + " has changed)");
+                return null;
+            }
+            return index;
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            LOG.warn("Ignoring invalid migration index " + url + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    /**
+     * Finds the first indexed resource whose entry in this jar file is missing or differs in size or CRC-32 from the
+     * resource that was indexed.
+     *
+     * @param jarFile The jar file containing this index.
+     * @param prefix  The prefix of the entry names of the indexed resources within the jar file.
+     * @return The name of the changed resource or {@code null} if all are unchanged.
+     */
+    private String findChangedResource(JarFile jarFile, String prefix) {
+        for (Map.Entry<String, IndexedResource> entry : resources.entrySet()) {
+            JarEntry jarEntry = jarFile.getJarEntry(prefix + entry.getKey());
+            IndexedResource resource = entry.getValue();
+            if (jarEntry == null || jarEntry.getSize() != resource.size || jarEntry.getCrc() != resource.crc) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static MigrationIndex read(BufferedReader reader) throws IOException {
+        if (!HEADER.equals(reader.readLine())) {
+            throw new IOException("unknown format");
+        }
+
+        MigrationIndex index = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] fields = line.split("\t");
+            if (index == null) {
+                if (!ENCODING.equals(fields[0]) || fields.length != 2) {
+                    throw new IOException("missing encoding");
+                }
+                index = new MigrationIndex(fields[1]);
+            } else if (LOCATION.equals(fields[0]) && fields.length == 2) {
+                index.locationPaths.add(fields[1]);
+            } else if (RESOURCE.equals(fields[0]) && (fields.length == 4 || fields.length == 5)) {
+                try {
+                    index.resources.put(fields[1], new IndexedResource(Long.parseLong(fields[2]),
+                            Long.parseLong(fields[3]), fields.length == 5 ? Integer.valueOf(fields[4]) : null));
+                } catch (NumberFormatException e) {
+                    throw new IOException("invalid resource entry for " + fields[1]);
+                }
+            } else if (MIGRATION.equals(fields[0]) && fields.length == 2) {
+                index.migrationClassFiles.add(fields[1]);
+            } else {
+                throw new IOException("invalid entry: " + line);
+            }
+        }
+        if (index == null) {
+            throw new IOException("missing encoding");
+        }
+        return index;
+    }
+
+    /**
+     * Checks whether all resources at this location and below are indexed.
+     *
+     * @param locationPath The path of the classpath location.
+     * @return {@code true} if they are, {@code false} if this location isn't indexed.
+     */
+    boolean covers(String locationPath) {
+        for (String indexedPath : locationPaths) {
+            if (indexedPath.isEmpty() || locationPath.equals(indexedPath) || locationPath.startsWith(indexedPath + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the names of the indexed resources at this location and below.
+     *
+     * @param locationPath The path of the classpath location. Must be {@link #covers(String) covered} by this index.
+     * @return The resource names.
+     */
+    Set<String> getResourceNames(String locationPath) {
+        if (locationPath.isEmpty()) {
+            return new TreeSet<>(resources.keySet());
+        }
+        String prefix = locationPath + "/";
+        // '0' directly follows '/' and therefore bounds all names starting with the prefix
+        return new TreeSet<>(resources.subMap(prefix, locationPath + "0").keySet());
+    }
+
+    /**
+     * Retrieves the checksum of this resource, as it was calculated at build time.
+     *
+     * @param resourceName The name of the resource.
+     * @param encoding     The encoding of the resources.
+     * @return The checksum or {@code null} if none is known for this encoding.
+     */
+    Integer getChecksum(String resourceName, Charset encoding) {
+        IndexedResource resource = resources.get(resourceName);
+        return resource != null && encoding.name().equals(this.encoding) ? resource.checksum : null;
+    }
+
+    /**
+     * @param classResourceName The resource name of an indexed class file.
+     * @return Whether this class is a Java migration.
+     */
+    boolean isMigration(String classResourceName) {
+        return migrationClassFiles.contains(classResourceName);
+    }
+
+    /**
+     * A resource as it was indexed.
+     */
+    private static final class IndexedResource {
+        /**
+         * The size of the resource in bytes.
+         */
+        private final long size;
+
+        /**
+         * The CRC-32 of the raw bytes of the resource, as also recorded for its entry in the jar file.
+         */
+        private final long crc;
+
+        /**
+         * The checksum of the resource or {@code null} for class files.
+         */
+        private final Integer checksum;
+
+        private IndexedResource(long size, long crc, Integer checksum) {
+            this.size = size;
+            this.crc = crc;
+            this.checksum = checksum;
+        }
+    }
+}
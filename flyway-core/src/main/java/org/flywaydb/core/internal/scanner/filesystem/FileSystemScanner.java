@@ -15,6 +15,7 @@
  */
 package org.flywaydb.core.internal.scanner.filesystem;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
@@ -22,11 +23,21 @@ import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * FileSystem scanner.
@@ -35,6 +46,16 @@ public class FileSystemScanner {
     private static final Log LOG = LogFactory.getLog(FileSystemScanner.class);
     private final Charset encoding;
 
+    /**
+     * The suffixes of the files to pick up. The companion .conf files of these are picked up as well.
+     */
+    private final String[] suffixes;
+
+    /**
+     * The number of threads to use for walking sibling directories in parallel.
+     */
+    private final int threads;
+
 
 
 
@@ -43,16 +64,20 @@ public class FileSystemScanner {
      * Creates a new filesystem scanner.
      *
      * @param encoding The encoding to use.
+     * @param suffixes The suffixes of the files to pick up. The companion .conf files of these are picked up as well.
+     * @param threads  The number of threads to use for walking sibling directories in parallel.
 
 
 
      */
-    public FileSystemScanner(Charset encoding
+    public FileSystemScanner(Charset encoding, String[] suffixes, int threads
 
 
 
     ) {
         this.encoding = encoding;
+        this.suffixes = suffixes;
+        this.threads = threads;
 
 
 
@@ -83,9 +108,21 @@ public class FileSystemScanner {
             return Collections.emptyList();
         }
 
-        Set<LoadableResource> resources = new TreeSet<>();
+        List<Path> files;
+        if (threads > 1) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                files = pool.invoke(new DirectoryWalk(dir.toPath(), Collections.emptyList(), true));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            files = new DirectoryWalk(dir.toPath(), Collections.emptyList(), false).walk();
+        }
 
-        for (String resourceName : findResourceNamesFromFileSystem(path, new File(path))) {
+        List<LoadableResource> resources = new ArrayList<>(files.size());
+        for (Path file : files) {
+            String resourceName = file.toString();
             resources.add(new FileSystemResource(location, resourceName, encoding
 
 
@@ -93,39 +130,111 @@ public class FileSystemScanner {
             ));
             LOG.debug("Found filesystem resource: " + resourceName);
         }
-
+        Collections.sort(resources);
         return resources;
     }
 
     /**
-     * Finds all the resource names contained in this file system folder.
+     * Checks whether this file should be picked up based on its name.
      *
-     * @param scanRootLocation The root location of the scan on disk.
-     * @param folder           The folder to look for resources under on disk.
-     * @return The resource names;
+     * @param fileName The name of the file.
+     * @return {@code true} if it should, {@code false} if not.
      */
-    @SuppressWarnings("ConstantConditions")
-    private Set<String> findResourceNamesFromFileSystem(String scanRootLocation, File folder) {
-        LOG.debug("Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
-
-        Set<String> resourceNames = new TreeSet<>();
-
-        File[] files = folder.listFiles();
-        for (File file : files) {
-            if (file.canRead()) {
-                if (file.isDirectory()) {
-                    if (file.isHidden()) {
-                        // #1807: Skip hidden directories to avoid issues with Kubernetes
-                        LOG.debug("Skipping hidden directory: " + file.getAbsolutePath());
-                    } else {
-                        resourceNames.addAll(findResourceNamesFromFileSystem(scanRootLocation, file));
-                    }
-                } else {
-                    resourceNames.add(file.getPath());
-                }
+    private boolean isCandidate(String fileName) {
+        if (suffixes == null || suffixes.length == 0) {
+            return true;
+        }
+        for (String suffix : suffixes) {
+            if (fileName.endsWith(suffix) || fileName.endsWith(suffix + ".conf")) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Walks a directory tree, reading the attributes of each entry only once. When scanning in parallel, each
+     * subdirectory is handed off to a walk of its own, so sibling directories are walked concurrently.
+     */
+    private class DirectoryWalk extends RecursiveTask<List<Path>> {
+        private final Path root;
+
+        /**
+         * The keys of the directories above the root of this walk, used to detect loops through symbolic links.
+         */
+        private final List<Object> ancestors;
+
+        private final boolean parallel;
+
+        private DirectoryWalk(Path root, List<Object> ancestors, boolean parallel) {
+            this.root = root;
+            this.ancestors = ancestors;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            return walk();
+        }
+
+        private List<Path> walk() {
+            final List<Path> files = new ArrayList<>();
+            final List<DirectoryWalk> subWalks = new ArrayList<>();
+            final List<Object> path = new ArrayList<>(ancestors);
+            try {
+                Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                        Object key = attrs.fileKey();
+                        if (!dir.equals(root)) {
+                            if (Files.isHidden(dir)) {
+                                // #1807: Skip hidden directories to avoid issues with Kubernetes
+                                LOG.debug("Skipping hidden directory: " + dir.toAbsolutePath());
+                                return FileVisitResult.SKIP_SUBTREE;
+                            }
+                            if (key != null && path.contains(key)) {
+                                LOG.debug("Skipping directory looping back to its parent: " + dir.toAbsolutePath());
+                                return FileVisitResult.SKIP_SUBTREE;
+                            }
+                            if (parallel) {
+                                DirectoryWalk subWalk = new DirectoryWalk(dir, new ArrayList<>(path), true);
+                                subWalk.fork();
+                                subWalks.add(subWalk);
+                                return FileVisitResult.SKIP_SUBTREE;
+                            }
+                        }
+                        path.add(key);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+                        path.remove(path.size() - 1);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (isCandidate(file.getFileName().toString()) && Files.isReadable(file)) {
+                            files.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        LOG.debug("Skipping unreadable path: " + file + " (" + e.getMessage() + ")");
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                throw new FlywayException("Unable to scan filesystem location " + root + ": " + e.getMessage(), e);
+            }
 
-        return resourceNames;
+            for (DirectoryWalk subWalk : subWalks) {
+                files.addAll(subWalk.join());
+            }
+            return files;
+        }
     }
-}
\ No newline at end of file
+}
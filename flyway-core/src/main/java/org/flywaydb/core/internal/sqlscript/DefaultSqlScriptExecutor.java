@@ -36,7 +36,15 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Whether consecutive batchable statements should be sent to the database as JDBC batches.
+     */
+    private final boolean batch;
 
+    /**
+     * The maximum number of statements to send to the database in a single batch.
+     */
+    private final int batchSize;
 
 
 
@@ -68,13 +76,17 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
-    public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate
+
+
+    public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate, boolean batch, int batchSize
 
 
 
 
     ) {
         this.jdbcTemplate = jdbcTemplate;
+        this.batch = batch;
+        this.batchSize = batchSize;
 
 
 
@@ -94,10 +106,25 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
+        List<SqlStatement> batchedStatements = new ArrayList<>();
         try (SqlStatementIterator sqlStatementIterator = sqlScript.getSqlStatements()) {
             while (sqlStatementIterator.hasNext()) {
                 SqlStatement sqlStatement = sqlStatementIterator.next();
 
+                if (batch && sqlStatement.isBatchable()) {
+                    batchedStatements.add(sqlStatement);
+                    if (batchedStatements.size() >= batchSize) {
+                        executeBatch(jdbcTemplate, sqlScript, batchedStatements);
+                        batchedStatements = new ArrayList<>();
+                    }
+                    continue;
+                }
+
+                if (!batchedStatements.isEmpty()) {
+                    executeBatch(jdbcTemplate, sqlScript, batchedStatements);
+                    batchedStatements = new ArrayList<>();
+                }
+
 
 
 
@@ -129,6 +156,10 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
             }
+
+            if (!batchedStatements.isEmpty()) {
+                executeBatch(jdbcTemplate, sqlScript, batchedStatements);
+            }
         }
 
 
@@ -195,6 +226,58 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
+
+    /**
+     * Executes these statements as a single JDBC batch.
+     *
+     * @param jdbcTemplate The jdbcTemplate to use.
+     * @param sqlScript    The script the statements belong to.
+     * @param batch        The statements to execute.
+     */
+    protected void executeBatch(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> batch) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Sending batch of " + batch.size() + " statements to the database ...");
+        }
+
+        List<String> sqls = new ArrayList<>(batch.size());
+        for (SqlStatement sqlStatement : batch) {
+            logStatementExecution(sqlStatement);
+            sqls.add(sqlStatement.getSql());
+        }
+
+        SqlScriptProgress.statementsStarting(batch.size());
+        Results results = jdbcTemplate.executeBatch(sqls);
+        if (results.getException() != null) {
+            printWarnings(results);
+            handleException(results, sqlScript, batch.get(getFailedStatementIndex(results, batch.size())));
+            return;
+        }
+
+        printWarnings(results);
+        handleResults(results
+
+
+
+        );
+    }
+
+    /**
+     * Determines which statement of a batch caused it to fail. Drivers either stop at the first failure and only report
+     * the update counts of the statements before it, or continue and flag each failed statement individually.
+     *
+     * @param results   The results of the failed batch.
+     * @param batchSize The number of statements in the batch.
+     * @return The index of the first failed statement within the batch.
+     */
+    private static int getFailedStatementIndex(Results results, int batchSize) {
+        List<Result> updateCounts = results.getResults();
+        for (int i = 0; i < updateCounts.size(); i++) {
+            if (updateCounts.get(i).getUpdateCount() == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return Math.min(updateCounts.size(), batchSize - 1);
+    }
 
     protected void executeStatement(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement) {
         logStatementExecution(sqlStatement);
@@ -205,6 +288,7 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
+        SqlScriptProgress.statementsStarting(1);
         Results results = sqlStatement.execute(jdbcTemplate
 
 
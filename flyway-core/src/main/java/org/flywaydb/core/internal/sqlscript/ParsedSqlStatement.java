@@ -17,6 +17,7 @@ package org.flywaydb.core.internal.sqlscript;
 
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.parser.StatementType;
 
 /**
  * A sql statement from a script that can be executed at once against a database.
@@ -46,6 +47,11 @@ public class ParsedSqlStatement implements SqlStatement {
 
     private final boolean canExecuteInTransaction;
 
+    /**
+     * The type of the statement, as detected by the parser.
+     */
+    private final StatementType statementType;
+
 
 
 
@@ -54,7 +60,7 @@ public class ParsedSqlStatement implements SqlStatement {
 
 
     public ParsedSqlStatement(int pos, int line, int col, String sql, Delimiter delimiter,
-                              boolean canExecuteInTransaction
+                              boolean canExecuteInTransaction, StatementType statementType
 
 
 
@@ -65,6 +71,7 @@ public class ParsedSqlStatement implements SqlStatement {
         this.sql = sql;
         this.delimiter = delimiter;
         this.canExecuteInTransaction = canExecuteInTransaction;
+        this.statementType = statementType;
 
 
 
@@ -90,6 +97,18 @@ public class ParsedSqlStatement implements SqlStatement {
         return canExecuteInTransaction;
     }
 
+    /**
+     * @return The type of the statement, as detected by the parser.
+     */
+    public StatementType getStatementType() {
+        return statementType;
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return statementType == StatementType.DML;
+    }
+
 
 
 
@@ -19,7 +19,9 @@ import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.parser.Parser;
+import org.flywaydb.core.internal.parser.StatementType;
 import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.ResourceCache;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -43,6 +45,12 @@ public class ParserSqlScript implements SqlScript {
      */
     private boolean nonTransactionalStatementFound;
 
+    /**
+     * Whether this SQL script consists of a single plain DML statement delimited by a semicolon. Only known once it has
+     * been parsed.
+     */
+    private boolean singlePlainDmlStatement;
+
     /**
      * The resource containing the statements.
      */
@@ -51,8 +59,24 @@ public class ParserSqlScript implements SqlScript {
     private final SqlScriptMetadata metadata;
     protected final Parser parser;
     private final boolean mixed;
+
+    /**
+     * Whether statements should be streamed from the resource on execution instead of being kept in memory.
+     */
+    private final boolean stream;
+
+    /**
+     * The cache holding the results of parsing this script in earlier runs.
+     */
+    private final ResourceCache resourceCache;
+
     private boolean parsed;
 
+    /**
+     * Whether the statement count and transactionality are known, either from parsing or from the resource cache.
+     */
+    private boolean validated;
+
 
 
 
@@ -64,8 +88,11 @@ public class ParserSqlScript implements SqlScript {
      * @param resource         The sql script resource.
      * @param metadataResource The sql script metadata resource.
      * @param mixed            Whether to allow mixing transactional and non-transactional statements within the same migration.
+     * @param stream           Whether to stream the statements from the resource on execution instead of keeping them in memory.
+     * @param resourceCache    The cache holding the results of parsing this script in earlier runs.
      */
-    public ParserSqlScript(Parser parser, LoadableResource resource, LoadableResource metadataResource, boolean mixed) {
+    public ParserSqlScript(Parser parser, LoadableResource resource, LoadableResource metadataResource, boolean mixed,
+                           boolean stream, ResourceCache resourceCache) {
         this.resource = resource;
         this.metadata = SqlScriptMetadata.fromResource(metadataResource);
         this.parser = parser;
@@ -73,9 +100,16 @@ public class ParserSqlScript implements SqlScript {
 
 
         this.mixed = mixed;
+        this.stream = stream;
+        this.resourceCache = resourceCache;
     }
 
     protected void parse() {
+        sqlStatements.clear();
+        sqlStatementCount = 0;
+        nonTransactionalStatementFound = false;
+        singlePlainDmlStatement = true;
+
         try (SqlStatementIterator sqlStatementIterator = parser.parse(resource)) {
             boolean transactionalStatementFound = false;
             while (sqlStatementIterator.hasNext()) {
@@ -83,12 +117,15 @@ public class ParserSqlScript implements SqlScript {
 
 
 
+                if (!stream) {
                     this.sqlStatements.add(sqlStatement);
+                }
 
 
 
 
                 sqlStatementCount++;
+                singlePlainDmlStatement &= sqlStatementCount == 1 && isPlainDml(sqlStatement);
 
                 if (sqlStatement.canExecuteInTransaction()) {
                     transactionalStatementFound = true;
@@ -119,18 +156,53 @@ public class ParserSqlScript implements SqlScript {
             }
         }
         parsed = true;
+        validated = true;
+        resourceCache.putParseResult(resource, getSignature(),
+                new ResourceCache.ParseResult(sqlStatementCount, nonTransactionalStatementFound));
+    }
+
+    /**
+     * @return The signature under which the result of parsing this script is cached. Whether mixing is allowed and the
+     * executeInTransaction override of the script configuration file are part of it, as they determine whether parsing
+     * succeeds at all.
+     */
+    private String getSignature() {
+        return parser.getSignature() + (mixed ? ":mixed" : "")
+                + (metadata.executeInTransaction() == null ? "" : ":executeInTransaction=" + metadata.executeInTransaction());
     }
 
     @Override
     public void validate() {
-        if (!parsed) {
-            parse();
+        if (validated) {
+            return;
+        }
+
+        ResourceCache.ParseResult parseResult = resourceCache.getParseResult(resource, getSignature());
+        if (parseResult != null) {
+            LOG.debug("Using cached parsing result for " + resource.getFilename());
+            sqlStatementCount = parseResult.getSqlStatementCount();
+            nonTransactionalStatementFound = parseResult.isNonTransactionalStatementFound();
+            validated = true;
+            return;
         }
+
+        parse();
     }
 
     @Override
     public SqlStatementIterator getSqlStatements() {
-        validate();
+        if (stream) {
+            // Transactionality and mixing are already settled when the metadata overrides them. Otherwise a first pass
+            // determines them without retaining any statement. Either way, memory usage is independent of script size.
+            if (metadata.executeInTransaction() == null) {
+                validate();
+            }
+            return parser.parse(resource);
+        }
+
+        if (!parsed) {
+            parse();
+        }
 
 
 
@@ -198,6 +270,34 @@ public class ParserSqlScript implements SqlScript {
         return !nonTransactionalStatementFound;
     }
 
+    @Override
+    public boolean mayChangeSessionState() {
+        return !parsed || !singlePlainDmlStatement;
+    }
+
+    /**
+     * Checks whether this statement is a plain DML statement delimited by a semicolon. Statements with any other
+     * delimiter, such as the GO blocks of SQL Server, may contain any number of statements of any kind.
+     *
+     * @param sqlStatement The statement to check.
+     * @return {@code true} if it is, {@code false} if not.
+     */
+    private static boolean isPlainDml(SqlStatement sqlStatement) {
+        return sqlStatement instanceof ParsedSqlStatement
+                && ((ParsedSqlStatement) sqlStatement).getStatementType() == StatementType.DML
+                && Delimiter.SEMICOLON.toString().equals(sqlStatement.getDelimiter());
+    }
+
+    @Override
+    public boolean isIndependent() {
+        return metadata.isIndependent();
+    }
+
+    @Override
+    public String getLane() {
+        return metadata.getLane();
+    }
+
     @Override
     public int compareTo(SqlScript o) {
         return resource.getRelativePath().compareTo(o.getResource().getRelativePath());
@@ -59,4 +59,28 @@ public interface SqlScript extends Comparable<SqlScript> {
      * Validates this SQL script.
      */
     void validate();
+
+    /**
+     * Whether executing this script may change the state of the session, such as its current schema or role. This is
+     * assumed unless the script is known to consist of a single plain DML statement delimited by a semicolon.
+     *
+     * @return {@code true} if it may, {@code false} if it can't.
+     */
+    boolean mayChangeSessionState();
+
+    /**
+     * Whether this script has been marked as independent of all other scripts in its configuration file, which allows
+     * it to be executed concurrently with them.
+     *
+     * @return {@code true} if it has, {@code false} if not.
+     */
+    boolean isIndependent();
+
+    /**
+     * The lane this script has been assigned to in its configuration file. Scripts in different lanes don't depend on
+     * each other and may therefore be executed concurrently, while those within the same lane are executed in order.
+     *
+     * @return The lane or {@code null} if it hasn't been assigned to any.
+     */
+    String getLane();
 }
\ No newline at end of file
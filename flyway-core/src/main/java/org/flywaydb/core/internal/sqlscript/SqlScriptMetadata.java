@@ -33,13 +33,20 @@ import static org.flywaydb.core.internal.configuration.ConfigUtils.removeBoolean
 public class SqlScriptMetadata {
     private static final Log LOG = LogFactory.getLog(SqlScriptMetadata.class);
     private static final String EXECUTE_IN_TRANSACTION = "executeInTransaction";
+    private static final String INDEPENDENT = "independent";
+    private static final String LANE = "lane";
 
     private final Boolean executeInTransaction;
+    private final boolean independent;
+    private final String lane;
 
     private SqlScriptMetadata(Map<String, String> metadata) {
         // Make copy to prevent removing elements from the original
         metadata = new HashMap<>(metadata);
         this.executeInTransaction = removeBoolean(metadata, EXECUTE_IN_TRANSACTION);
+        this.independent = Boolean.TRUE.equals(removeBoolean(metadata, INDEPENDENT));
+        String lane = metadata.remove(LANE);
+        this.lane = StringUtils.hasText(lane) ? lane.trim() : null;
 
         ConfigUtils.checkConfigurationForUnrecognisedProperties(metadata, null);
     }
@@ -48,6 +55,14 @@ public class SqlScriptMetadata {
         return executeInTransaction;
     }
 
+    public boolean isIndependent() {
+        return independent;
+    }
+
+    public String getLane() {
+        return lane;
+    }
+
     public static SqlScriptMetadata fromResource(LoadableResource resource) {
         if (resource != null) {
             LOG.debug("Found script configuration: " + resource.getFilename());
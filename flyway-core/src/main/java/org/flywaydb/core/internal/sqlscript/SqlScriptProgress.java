@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import org.flywaydb.core.internal.util.TimeFormat;
+
+/**
+ * The progress of the script being executed on a thread. Scripts executed by {@link DefaultSqlScriptExecutor} while
+ * it is being tracked report each statement before it is sent to the database, so that other threads can tell what a
+ * long-running script is currently doing.
+ */
+public final class SqlScriptProgress {
+    private static final ThreadLocal<SqlScriptProgress> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The description of what is being executed.
+     */
+    private final String description;
+
+    /**
+     * The time at which tracking started (in ms).
+     */
+    private final long started = System.currentTimeMillis();
+
+    /**
+     * The number of the first and last statement currently executing. Both are 0 before the first statement.
+     */
+    private volatile int firstStatement;
+    private volatile int lastStatement;
+
+    /**
+     * The time at which the statements currently executing were sent to the database (in ms).
+     */
+    private volatile long statementStarted;
+
+    private SqlScriptProgress(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Starts tracking the progress of the scripts executed on the current thread.
+     *
+     * @param description The description of what is being executed.
+     * @return The progress, which must be finished on the same thread.
+     */
+    public static SqlScriptProgress start(String description) {
+        SqlScriptProgress progress = new SqlScriptProgress(description);
+        CURRENT.set(progress);
+        return progress;
+    }
+
+    /**
+     * Stops tracking the progress of the scripts executed on the current thread.
+     */
+    public void finish() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Reports that these statements are about to be sent to the database on the current thread.
+     *
+     * @param count The number of statements, more than one for a batch.
+     */
+    static void statementsStarting(int count) {
+        SqlScriptProgress progress = CURRENT.get();
+        if (progress != null) {
+            progress.statementStarted = System.currentTimeMillis();
+            progress.firstStatement = progress.lastStatement + 1;
+            progress.lastStatement += count;
+        }
+    }
+
+    /**
+     * @return The number of milliseconds since tracking started.
+     */
+    public long getElapsedMillis() {
+        return System.currentTimeMillis() - started;
+    }
+
+    @Override
+    public String toString() {
+        long now = System.currentTimeMillis();
+        int first = firstStatement;
+        int last = lastStatement;
+        String text = description + " (running for " + TimeFormat.format(now - started);
+        if (last > 0) {
+            text += ", executing statement " + (first == last ? String.valueOf(first) : first + "-" + last)
+                    + " for " + TimeFormat.format(now - statementStarted);
+        }
+        return text + ")";
+    }
+}
@@ -46,6 +46,14 @@ public interface SqlStatement {
      */
     boolean canExecuteInTransaction();
 
+    /**
+     * Whether this statement can be sent to the database together with other statements as part of a JDBC batch.
+     * This is only the case for plain DML statements that don't produce a result set.
+     *
+     * @return {@code true} if it can be batched, {@code false} if it must be executed individually.
+     */
+    boolean isBatchable();
+
 
 
 
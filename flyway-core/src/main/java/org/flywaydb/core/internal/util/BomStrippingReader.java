@@ -25,6 +25,11 @@ import java.io.Reader;
 public class BomStrippingReader extends FilterReader {
     private static final int EMPTY_STREAM = -1;
 
+    /**
+     * Whether the last character seen by a bulk read was a BOM that got stripped.
+     */
+    private boolean bomStripped;
+
     /**
      * Creates a new BOM-stripping reader.
      *
@@ -44,4 +49,33 @@ public class BomStrippingReader extends FilterReader {
         }
         return c;
     }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        int count;
+        do {
+            int read = super.read(cbuf, off, len);
+            if (read == EMPTY_STREAM) {
+                return EMPTY_STREAM;
+            }
+
+            // Compact in place, following the same rules as read(): a BOM is only kept when it directly follows
+            // one that was just stripped.
+            count = 0;
+            for (int i = off; i < off + read; i++) {
+                char c = cbuf[i];
+                if (BomFilter.isBom(c) && !bomStripped) {
+                    bomStripped = true;
+                    continue;
+                }
+                bomStripped = false;
+                cbuf[off + count++] = c;
+            }
+        } while (count == 0);
+        return count;
+    }
 }
\ No newline at end of file
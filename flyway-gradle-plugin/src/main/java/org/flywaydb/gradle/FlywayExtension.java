@@ -410,22 +410,122 @@ public class FlywayExtension {
      * composed of multiple MB or even GB of reference data, as this dramatically reduces Flyway's memory consumption.
      * (default: {@code false}
      * <p>Also configurable with Gradle or System Property: ${flyway.stream}</p>
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      */
     public Boolean stream;
 
     /**
      * Whether to batch SQL statements when executing them. Batching can save up to 99 percent of network roundtrips by
-     * sending up to 100 statements at once over the network to the database, instead of sending each statement
-     * individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
+     * sending up to {@code batchSize} statements at once over the network to the database, instead of sending each
+     * statement individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
      * reference data, as this can dramatically reduce the network overhead. This is supported for INSERT, UPDATE,
      * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
      * (default: {@code false})
      * <p>Also configurable with Gradle or System Property: ${flyway.batch}</p>
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      */
     public Boolean batch;
 
+    /**
+     * The maximum number of statements to send to the database at once when {@code batch} is enabled. Larger batches
+     * save more network roundtrips at the cost of holding more statements in memory and in the driver at once.
+     * (default: 100)
+     * <p>Also configurable with Gradle or System Property: ${flyway.batchSize}</p>
+     */
+    public Integer batchSize;
+
+    /**
+     * The file in which Flyway caches the checksums and parsing results of migrations and callbacks located on disk
+     * between runs. Files whose size and last modification time are unchanged are then not read again, which
+     * considerably speeds up startup when a large number of migrations has already been applied.
+     * (default: {@code null} which disables the cache)
+     * <p>Also configurable with Gradle or System Property: ${flyway.resourceCacheFile}</p>
+     */
+    public String resourceCacheFile;
+
+    /**
+     * The number of threads to use for resolving SQL migrations. With more than one thread, the checksums of SQL
+     * migrations are calculated in parallel, which considerably speeds up resolution when there are many migrations on
+     * slow storage.
+     * (default: 1)
+     * <p>Also configurable with Gradle or System Property: ${flyway.resolveThreads}</p>
+     */
+    public Integer resolveThreads;
+
+    /**
+     * Whether to resolve versioned SQL migrations lazily. Their checksums are then only calculated and their scripts
+     * only loaded once they are actually needed for validation or execution, so the time to resolve migrations scales
+     * with the number of pending migrations rather than the size of the history.
+     * (default: false)
+     * <p>Also configurable with Gradle or System Property: ${flyway.lazyResolve}</p>
+     */
+    public Boolean lazyResolve;
+
+    /**
+     * The maximum number of seconds to wait for the lock on the schema history table held by another Flyway instance.
+     * Where the database supports it, the wait happens on the server, otherwise Flyway retries with a randomized
+     * backoff until this time is up.
+     * 0 to wait indefinitely. Before this option was introduced, MySQL waited indefinitely and SQL Server for one hour;
+     * set it to 0 or 3600 respectively to keep that behavior.
+     * (default: 600)
+     * <p>Also configurable with Gradle or System Property: ${flyway.lockWaitTimeout}</p>
+     */
+    public Integer lockWaitTimeout;
+
+    /**
+     * The number of threads to use for cleaning schemas. With more than one thread, the schemas are cleaned in parallel
+     * on separate connections, which considerably speeds up cleaning many schemas. Schemas which can't be cleaned in
+     * parallel due to dependencies between them are cleaned again one after the other.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     * (default: 1)
+     * <p>Also configurable with Gradle or System Property: ${flyway.cleanThreads}</p>
+     */
+    public Integer cleanThreads;
+
+    /**
+     * The number of threads to use for applying repeatable SQL migrations marked as independent with independent=true
+     * in their script configuration file. With more than one thread, consecutive pending independent repeatable
+     * migrations are applied in parallel, each on a connection of its own, and recorded in the schema history table in
+     * their usual order. Those which fail, for example because they depend on another one, are retried one after the
+     * other. This has no effect when group is enabled or when callbacks are configured for the events fired around each
+     * migration.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     * (default: 1)
+     * <p>Also configurable with Gradle or System Property: ${flyway.repeatableThreads}</p>
+     */
+    public Integer repeatableThreads;
+
+    /**
+     * The number of threads to use for applying versioned SQL migrations assigned to a lane with lane=<name> in their
+     * script configuration file. With more than one thread, consecutive pending migrations assigned to lanes are
+     * applied with one connection per lane, the lanes in parallel and the migrations within each lane in version order.
+     * The migrations are still recorded in the schema history table in version order: a migration completed before
+     * an earlier one of another lane keeps its transaction open until that one has been recorded and is rolled back if
+     * it wasn't, while migrations that can't be rolled back wait for all earlier ones before starting. When a
+     * migration fails, no further migration is started in any lane and the schema history table is left as if the
+     * migrations had been applied one after the other, so migrate can simply be run again once the failed migration
+     * has been fixed. As migrations may hold their locks while waiting, those of different lanes must not touch the
+     * same objects. This has no effect on databases without DDL transactions, when group is enabled or when callbacks
+     * are configured for the events fired around each migration.
+     * When there are more lanes than threads, they are applied in successive runs of at most this many lanes.
+     * This requires the DataSource to hand out independent connections to the same database. Flyway falls back to a
+     * single thread for SQLite, private in-memory databases and DataSources handing out the same connection every time.
+     * (default: 1)
+     * <p>Also configurable with Gradle or System Property: ${flyway.laneThreads}</p>
+     */
+    public Integer laneThreads;
+
+    /**
+     * The number of seconds between two progress reports during long-running operations. While a migration runs for
+     * longer than this, Flyway logs which migration and statement it is executing and for how long. Instances waiting
+     * for the schema history lock report on the instance holding it at the same interval, including its current
+     * migration on databases where it can be published to other sessions such as PostgreSQL. 0 to disable progress
+     * reports. They are disabled by default, as publishing the current migration costs a roundtrip per migration.
+     * (default: 0)
+     * <p>Also configurable with Gradle or System Property: ${flyway.heartbeatInterval}</p>
+     */
+    public Integer heartbeatInterval;
+
     /**
      * Whether to Flyway's support for Oracle SQL*Plus commands should be activated.
      * (default: {@code false})
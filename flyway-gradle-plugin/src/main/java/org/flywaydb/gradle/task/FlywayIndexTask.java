@@ -0,0 +1,81 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.gradle.task;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.internal.scanner.classpath.MigrationIndex;
+import org.gradle.api.plugins.JavaPluginConvention;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetOutput;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+/**
+ * Indexes the migrations of the main source set. The index isn't packaged by default, to include it in the jar add it
+ * to the jar task of the build script:
+ * <pre>
+ * jar {
+ *     from flywayIndex
+ * }
+ * </pre>
+ */
+public class FlywayIndexTask extends AbstractFlywayTask {
+    public FlywayIndexTask() {
+        super();
+        setDescription("Indexes the migrations of the main source set so they don't need to be checksummed and probed once packaged."
+                + " Add it to the jar with: jar { from flywayIndex }");
+        // Changes to the Flyway configuration, such as its locations, aren't tracked and need --rerun-tasks
+        getInputs().files(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return isJavaProject() ? getMainSourceSet().getOutput() : Collections.emptyList();
+            }
+        });
+        getOutputs().dir(new Callable<File>() {
+            @Override
+            public File call() {
+                return getIndexDirectory();
+            }
+        });
+    }
+
+    /**
+     * @return The directory the index is written to, from where the jar task packages it. It is kept apart from the
+     * resources so that no index from an earlier build can end up in the jar.
+     */
+    public File getIndexDirectory() {
+        return new File(getProject().getBuildDir(), "flyway-index");
+    }
+
+    @Override
+    protected Object run(Flyway flyway) {
+        if (!isJavaProject()) {
+            throw new FlywayException("Unable to index migrations: the java plugin has not been applied to " + getProject());
+        }
+        SourceSetOutput output = getMainSourceSet().getOutput();
+        // The output contains both the classes and the resources directories
+        MigrationIndex.create(flyway.getConfiguration(), getIndexDirectory(), output.getFiles());
+        return null;
+    }
+
+    private SourceSet getMainSourceSet() {
+        return getProject().getConvention().getPlugin(JavaPluginConvention.class)
+                .getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+    }
+}
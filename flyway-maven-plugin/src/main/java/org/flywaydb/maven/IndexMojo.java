@@ -0,0 +1,44 @@
+/*
+ * Copyright 2010-2020 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.maven;
+
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.internal.scanner.classpath.MigrationIndex;
+
+import java.io.File;
+import java.util.Collections;
+
+/**
+ * Maven goal that indexes the migrations of the classpath locations in the project's output directory, so that they
+ * don't need to be checksummed and probed at runtime once packaged. The index is written to META-INF/flyway/index and
+ * is picked up automatically when the migrations are loaded from a jar file, as long as it still lists exactly the
+ * resources found there with unchanged contents. No database connection is required.
+ */
+@SuppressWarnings({"UnusedDeclaration", "JavaDoc"})
+@Mojo(name = "index",
+        requiresDependencyResolution = ResolutionScope.RUNTIME,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        threadSafe = true)
+public class IndexMojo extends AbstractFlywayMojo {
+    @Override
+    protected void doExecute(Flyway flyway) throws Exception {
+        File outputDirectory = new File(mavenProject.getBuild().getOutputDirectory());
+        MigrationIndex.create(flyway.getConfiguration(), outputDirectory, Collections.singletonList(outputDirectory));
+    }
+}